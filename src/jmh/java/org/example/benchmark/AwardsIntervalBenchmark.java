@@ -0,0 +1,55 @@
+package org.example.benchmark;
+
+import org.example.model.Movie;
+import org.example.repository.MovieRepository;
+import org.example.repository.projection.WinnerProjection;
+import org.example.service.AwardIntervals;
+import org.example.service.MovieService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cálculo completo dos intervalos em memória; o repositório devolve os vencedores já carregados,
+ * isolando o custo do banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AwardsIntervalBenchmark {
+
+    @Param({SyntheticMovies.BUNDLED, "100000", "1000000"})
+    private String dataset;
+
+    private MovieService movieService;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<WinnerProjection> winners = SyntheticMovies.movies(dataset).stream()
+            .filter(Movie::getWinner)
+            .map(movie -> new WinnerProjection(movie.getYear(), movie.getProducers(), movie.getStudios()))
+            .collect(Collectors.toList());
+        MovieRepository repository = (MovieRepository) Proxy.newProxyInstance(
+            MovieRepository.class.getClassLoader(),
+            new Class<?>[]{MovieRepository.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("findWinners")) {
+                    return winners;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+        movieService = new MovieService(repository, null);
+    }
+
+    @Benchmark
+    public AwardIntervals getProducersWithMinMaxAwardsInterval() {
+        return movieService.getProducersWithMinMaxAwardsInterval();
+    }
+}
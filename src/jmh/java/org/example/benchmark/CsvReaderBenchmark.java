@@ -0,0 +1,50 @@
+package org.example.benchmark;
+
+import org.example.model.Movie;
+import org.example.service.CsvReaderService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CsvReaderBenchmark {
+
+    @Param({SyntheticMovies.BUNDLED, "100000", "1000000"})
+    private String dataset;
+
+    private Path file;
+    private CsvReaderService csvReaderService;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = SyntheticMovies.csvFile(dataset);
+        csvReaderService = new CsvReaderService();
+        ReflectionTestUtils.setField(csvReaderService, "csvFilePath", file.toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<Movie> readMoviesFromCsv() {
+        return csvReaderService.readMoviesFromCsv();
+    }
+
+    @Benchmark
+    public long readMoviesStreaming(Blackhole blackhole) {
+        return csvReaderService.readMovies(blackhole::consume);
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.benchmark;
+
+import org.example.Main;
+import org.example.dto.IngestResultDTO;
+import org.example.model.Movie;
+import org.example.service.BatchingConsumer;
+import org.example.service.CsvReaderService;
+import org.example.service.MovieBatchWriter;
+import org.example.service.ParallelCsvIngestService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga completa (parse + persistência no H2) pelos caminhos sequencial e paralelo.
+ * O contexto sobe com um CSV vazio e as tabelas são esvaziadas antes de cada execução.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IngestBenchmark {
+
+    @Param({SyntheticMovies.BUNDLED, "100000"})
+    private String dataset;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private Path emptyFile;
+    private Path file;
+    private ConfigurableApplicationContext context;
+    private CsvReaderService csvReaderService;
+    private MovieBatchWriter movieBatchWriter;
+    private ParallelCsvIngestService parallelCsvIngestService;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        emptyFile = Files.createTempFile("movies-empty-", ".csv");
+        Files.write(emptyFile, "year;title;studios;producers;winner\n".getBytes(StandardCharsets.UTF_8));
+        file = SyntheticMovies.csvFile(dataset);
+
+        context = new SpringApplicationBuilder(Main.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.csv.filepath=" + emptyFile,
+                "spring.ingest.batch-size=" + batchSize,
+                "spring.jpa.show-sql=false",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN")
+            .run();
+        csvReaderService = new CsvReaderService();
+        ReflectionTestUtils.setField(csvReaderService, "csvFilePath", file.toString());
+        movieBatchWriter = context.getBean(MovieBatchWriter.class);
+        parallelCsvIngestService = context.getBean(ParallelCsvIngestService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTables() {
+        jdbcTemplate.execute("DELETE FROM movie_producer");
+        jdbcTemplate.execute("DELETE FROM movies");
+        jdbcTemplate.execute("DELETE FROM producers");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(emptyFile);
+    }
+
+    @Benchmark
+    public long sequential() {
+        BatchingConsumer<Movie> batches = new BatchingConsumer<>(batchSize, movieBatchWriter::write);
+        long rows = csvReaderService.readMovies(batches);
+        batches.flush();
+        return rows;
+    }
+
+    @Benchmark
+    public IngestResultDTO parallel() {
+        return parallelCsvIngestService.ingest(file);
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.benchmark;
+
+import org.example.model.Movie;
+import org.example.service.NameParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NameParserBenchmark {
+
+    @Param({SyntheticMovies.BUNDLED, "100000", "1000000"})
+    private String dataset;
+
+    private String[] producers;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Movie> movies = SyntheticMovies.movies(dataset);
+        producers = new String[movies.size()];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = movies.get(i).getProducers();
+        }
+    }
+
+    @Benchmark
+    public void parseProducers(Blackhole blackhole) {
+        for (String producer : producers) {
+            blackhole.consume(NameParser.parse(producer));
+        }
+    }
+}
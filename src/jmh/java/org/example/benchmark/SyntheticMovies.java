@@ -0,0 +1,79 @@
+package org.example.benchmark;
+
+import org.example.model.Movie;
+import org.example.service.MovieCsvParser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Massas de dados dos benchmarks: "bundled" é o movielist.csv do projeto; valores numéricos geram
+ * um CSV sintético com essa quantidade de filmes (semente fixa, ~20% vencedores).
+ */
+final class SyntheticMovies {
+
+    static final String BUNDLED = "bundled";
+
+    private static final String HEADER = "year;title;studios;producers;winner";
+
+    private SyntheticMovies() {
+    }
+
+    static Path csvFile(String dataset) throws IOException {
+        Path file = Files.createTempFile("movies-" + dataset + "-", ".csv");
+        if (BUNDLED.equals(dataset)) {
+            try (InputStream in = SyntheticMovies.class.getClassLoader().getResourceAsStream("data/movielist.csv")) {
+                Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return file;
+        }
+
+        int rows = Integer.parseInt(dataset);
+        int producers = Math.max(10, rows / 10);
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                writer.write(String.valueOf(1950 + random.nextInt(70)));
+                writer.write(";Movie ");
+                writer.write(String.valueOf(i));
+                writer.write(";Studio ");
+                writer.write(String.valueOf(random.nextInt(200)));
+                writer.write(';');
+                writer.write(producerList(random, producers));
+                writer.write(random.nextInt(5) == 0 ? ";yes" : ";");
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    static List<Movie> movies(String dataset) throws IOException {
+        Path file = csvFile(dataset);
+        try (InputStream in = Files.newInputStream(file)) {
+            List<Movie> movies = new ArrayList<>();
+            new MovieCsvParser(movies::add).parse(in);
+            return movies;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String producerList(Random random, int producers) {
+        int count = 1 + random.nextInt(3);
+        StringBuilder names = new StringBuilder("Producer ").append(random.nextInt(producers));
+        for (int i = 1; i < count; i++) {
+            names.append(i == count - 1 ? " and " : ", ").append("Producer ").append(random.nextInt(producers));
+        }
+        return names.toString();
+    }
+}
@@ -1,34 +1,168 @@
 package org.example;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.dto.IngestResultDTO;
+import org.example.dto.RejectedLineDTO;
 import org.example.model.Movie;
-import org.example.repository.MovieRepository;
+import org.example.service.AwardIntervalIndex;
+import org.example.service.BatchingConsumer;
 import org.example.service.CsvReaderService;
+import org.example.service.CsvReloadService;
+import org.example.service.DataLoadStatus;
+import org.example.service.MovieBatchWriter;
+import org.example.service.MovieSnapshot;
+import org.example.service.MovieSnapshotService;
+import org.example.service.ParallelCsvIngestService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
 
 @Component
 @Order(10)
 public class DataLoader implements CommandLineRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(DataLoader.class);
+
     @Autowired
     private CsvReaderService csvReaderService;
 
     @Autowired
-    private MovieRepository movieRepository;
+    private MovieBatchWriter movieBatchWriter;
+
+    @Autowired
+    private ParallelCsvIngestService parallelCsvIngestService;
+
+    @Autowired
+    private AwardIntervalIndex awardIntervalIndex;
+
+    @Autowired
+    private CsvReloadService csvReloadService;
+
+    @Autowired
+    private MovieSnapshotService movieSnapshotService;
+
+    @Autowired
+    private DataLoadStatus dataLoadStatus;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spring.ingest.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${spring.ingest.parallel-threshold:16777216}")
+    private long parallelThreshold;
 
+    /**
+     * Dispara a carga em segundo plano e retorna logo, para o servidor subir (e responder à liveness)
+     * sem esperar o CSV. O andamento fica em {@link DataLoadStatus}. Se houver um snapshot do CSV atual,
+     * ele substitui a leitura do CSV; caso contrário, um novo snapshot é gravado ao final da carga.
+     */
     @Override
-    public void run(String... args) throws Exception {
+    public void run(String... args) {
+        Thread loader = new Thread(this::load, "data-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    void load() {
         try {
-            Thread.sleep(500);
-            
-            List<Movie> movies = csvReaderService.readMoviesFromCsv();
-            movieRepository.saveAll(movies);
+            long rows;
+            Optional<MovieSnapshot> snapshot = movieSnapshotService.open();
+            if (snapshot.isPresent()) {
+                rows = restore(snapshot.get());
+            } else {
+                rows = ingestCsv();
+                Timer.Sample index = Timer.start(meterRegistry);
+                awardIntervalIndex.rebuild();
+                index.stop(stageTimer("index", "rebuild"));
+                movieSnapshotService.save();
+            }
+            Counter.builder("movies.loaded")
+                .description("Filmes carregados do CSV na inicialização")
+                .register(meterRegistry)
+                .increment(rows);
+
+            try {
+                csvReloadService.watch();
+            } catch (IOException e) {
+                log.error("Erro ao observar o CSV; alterações no arquivo não serão recarregadas", e);
+            }
+            dataLoadStatus.ready();
+            log.info("Carga inicial concluída: {} filmes em {} ms", rows, dataLoadStatus.getElapsedMillis());
         } catch (Exception e) {
-            e.printStackTrace();
+            dataLoadStatus.failed(e);
+            log.error("Erro na carga inicial do CSV", e);
+        }
+    }
+
+    private long ingestCsv() throws IOException {
+        Timer.Sample ingest = Timer.start(meterRegistry);
+        Optional<Path> file = csvReaderService.getCsvFile();
+        if (file.isPresent() && Files.size(file.get()) >= parallelThreshold) {
+            IngestResultDTO result = parallelCsvIngestService.ingest(file.get(), dataLoadStatus::addRows);
+            log.info("CSV carregado em paralelo: {} filmes, {} linhas rejeitadas, {} ms ({} filmes/s)",
+                result.getRows(), result.getRejected(), result.getElapsedMillis(),
+                Math.round(result.getRowsPerSecond()));
+            for (RejectedLineDTO rejection : result.getRejectedLines()) {
+                log.warn("Linha {} rejeitada: {}", rejection.getLine(), rejection.getReason());
+            }
+            ingest.stop(stageTimer("ingest", "parallel"));
+            return result.getRows();
+        }
+        BatchingConsumer<Movie> batches = movieBatches();
+        long rows = csvReaderService.readMovies(batches);
+        batches.flush();
+        ingest.stop(stageTimer("ingest", "sequential"));
+        return rows;
+    }
+
+    /**
+     * Publica os intervalos do snapshot, liberando os endpoints de intervalos, e só então grava os filmes
+     * no banco, sem reprocessar o CSV.
+     */
+    private long restore(MovieSnapshot snapshot) {
+        Timer.Sample index = Timer.start(meterRegistry);
+        awardIntervalIndex.restore(snapshot.wins(), snapshot.intervals());
+        index.stop(stageTimer("index", "snapshot"));
+        dataLoadStatus.indexReady();
+
+        Timer.Sample ingest = Timer.start(meterRegistry);
+        BatchingConsumer<Movie> batches = movieBatches();
+        for (int i = 0; i < snapshot.movieCount(); i++) {
+            batches.accept(snapshot.movie(i));
         }
+        batches.flush();
+        ingest.stop(stageTimer("ingest", "snapshot"));
+        return snapshot.movieCount();
+    }
+
+    private BatchingConsumer<Movie> movieBatches() {
+        return new BatchingConsumer<>(batchSize, batch -> {
+            movieBatchWriter.write(batch);
+            dataLoadStatus.addRows(batch.size());
+        });
+    }
+
+    /**
+     * Tempo de cada etapa da carga inicial, para acompanhar regressões no startup.
+     */
+    private Timer stageTimer(String stage, String mode) {
+        return Timer.builder("dataloader.stage")
+            .description("Duração das etapas da carga inicial")
+            .tag("stage", stage)
+            .tag("mode", mode)
+            .register(meterRegistry);
     }
 }
@@ -0,0 +1,103 @@
+package org.example.config;
+
+import org.example.service.DataLoadStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Liga a API e o grupo de readiness do Actuator ao estado da carga inicial: até os dados ficarem prontos,
+ * {@code /api/**} responde {@code 503} com {@code Retry-After} e {@code /actuator/health/readiness} fica
+ * fora de serviço, mostrando quantos filmes já foram gravados. Os intervalos são liberados antes, assim que o
+ * índice é restaurado de um snapshot.
+ */
+@Configuration
+public class DataLoadConfig implements WebMvcConfigurer {
+
+    /**
+     * Respondidos só pelo índice em memória, então liberados assim que ele é publicado.
+     */
+    private static final String[] INTERVAL_PATHS = {"/api/*/awards-intervals", "/api/*/awards-intervals/**"};
+
+    private final DataLoadStatus dataLoadStatus;
+
+    @Autowired
+    public DataLoadConfig(DataLoadStatus dataLoadStatus) {
+        this.dataLoadStatus = dataLoadStatus;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new DataLoadInterceptor(dataLoadStatus, false))
+            .addPathPatterns("/api/**")
+            .excludePathPatterns(INTERVAL_PATHS);
+        registry.addInterceptor(new DataLoadInterceptor(dataLoadStatus, true))
+            .addPathPatterns(INTERVAL_PATHS);
+    }
+
+    @Bean
+    public HealthIndicator dataLoadHealthIndicator() {
+        return () -> {
+            Health.Builder health;
+            switch (dataLoadStatus.getState()) {
+                case READY:
+                    health = Health.up();
+                    break;
+                case FAILED:
+                    health = Health.down().withDetail("error", String.valueOf(dataLoadStatus.getError()));
+                    break;
+                default:
+                    health = Health.outOfService();
+            }
+            return health
+                .withDetail("rows", dataLoadStatus.getRows())
+                .withDetail("indexReady", dataLoadStatus.isIndexReady())
+                .withDetail("elapsedMillis", dataLoadStatus.getElapsedMillis())
+                .build();
+        };
+    }
+
+    static class DataLoadInterceptor implements HandlerInterceptor {
+
+        static final String RETRY_AFTER_SECONDS = "1";
+
+        private final DataLoadStatus dataLoadStatus;
+        private final boolean servedByIndex;
+
+        DataLoadInterceptor(DataLoadStatus dataLoadStatus, boolean servedByIndex) {
+            this.dataLoadStatus = dataLoadStatus;
+            this.servedByIndex = servedByIndex;
+        }
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+                throws IOException {
+            if (servedByIndex && dataLoadStatus.isIndexReady()) {
+                return true;
+            }
+            switch (dataLoadStatus.getState()) {
+                case READY:
+                    return true;
+                case FAILED:
+                    response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Falha na carga dos filmes");
+                    return false;
+                default:
+                    response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+                    response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Carga dos filmes em andamento: " + dataLoadStatus.getRows() + " gravados");
+                    return false;
+            }
+        }
+    }
+}
@@ -1,27 +1,275 @@
 package org.example.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.IngestResultDTO;
+import org.example.dto.MovieDTO;
+import org.example.dto.MoviePageDTO;
 import org.example.dto.ProducerAwardsIntervalDTO;
-import org.example.service.MovieService;
+import org.example.dto.ProducerIntervalRankingDTO;
+import org.example.dto.StudioAwardsIntervalDTO;
+import org.example.dto.StudioIntervalRankingDTO;
+import org.example.service.AwardDimension;
+import org.example.service.AwardIntervalIndex;
+import org.example.service.AwardIntervalRanking;
+import org.example.service.AwardIntervalSnapshot;
+import org.example.service.AwardIntervals;
+import org.example.service.MovieImportService;
+import org.example.service.MovieListingService;
+import org.example.service.MovieUpdateService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api")
 public class MovieController {
 
-    private final MovieService movieService;
+    static final int MAX_TOP_K = AwardIntervalIndex.MAX_TOP_K;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final AwardIntervalIndex awardIntervalIndex;
+    private final MovieUpdateService movieUpdateService;
+    private final MovieListingService movieListingService;
+    private final MovieImportService movieImportService;
+    private final ObjectMapper objectMapper;
+    private final Map<AwardDimension, AtomicReference<SerializedIntervals>> serializedIntervals =
+        new EnumMap<>(AwardDimension.class);
 
     @Autowired
-    public MovieController(MovieService movieService) {
-        this.movieService = movieService;
+    public MovieController(AwardIntervalIndex awardIntervalIndex, MovieUpdateService movieUpdateService,
+                           MovieListingService movieListingService, MovieImportService movieImportService,
+                           ObjectMapper objectMapper) {
+        this.awardIntervalIndex = awardIntervalIndex;
+        this.movieUpdateService = movieUpdateService;
+        this.movieListingService = movieListingService;
+        this.movieImportService = movieImportService;
+        this.objectMapper = objectMapper;
+        for (AwardDimension dimension : AwardDimension.values()) {
+            serializedIntervals.put(dimension, new AtomicReference<>());
+        }
     }
 
+    /**
+     * O ETag acompanha a versão da fotografia do índice; um If-None-Match igual responde 304
+     * sem recalcular nem serializar os intervalos. O corpo ({@link ProducerAwardsIntervalDTO}) é
+     * serializado uma vez por versão e enviado já comprimido quando o cliente aceita gzip.
+     * O {@code Accept} escolhe entre JSON, CBOR ({@code application/cbor}) e Smile
+     * ({@code application/x-jackson-smile}); outros tipos respondem {@code 406}.
+     * Com {@code from} e/ou {@code to}, considera só as vitórias do período, respondidas pelo índice da versão atual.
+     */
     @GetMapping("/producers/awards-intervals")
-    public ResponseEntity<ProducerAwardsIntervalDTO> getProducersAwardsIntervals() {
-        ProducerAwardsIntervalDTO intervals = movieService.getProducersWithMinMaxAwardsInterval();
-        return ResponseEntity.ok(intervals);
+    public ResponseEntity<byte[]> getProducersAwardsIntervals(@RequestParam(required = false) Integer from,
+                                                              @RequestParam(required = false) Integer to,
+                                                              WebRequest request) {
+        return awardsIntervals(AwardDimension.PRODUCERS, from, to, request);
+    }
+
+    /**
+     * Ranking dos {@code k} menores e maiores intervalos; valores acima de {@value #MAX_TOP_K} são limitados.
+     * Como as demais respostas em DTO, sai em JSON, CBOR ou Smile conforme o {@code Accept}.
+     */
+    @GetMapping("/producers/awards-intervals/top")
+    public ResponseEntity<ProducerIntervalRankingDTO> getTopProducersAwardsIntervals(
+            @RequestParam(defaultValue = "10") int k) {
+        return topIntervals(AwardDimension.PRODUCERS, k, ProducerIntervalRankingDTO::from);
+    }
+
+    /**
+     * Mesmos intervalos, agrupados pelos estúdios ({@link StudioAwardsIntervalDTO}); o nome vem no campo
+     * {@code studio}.
+     */
+    @GetMapping("/studios/awards-intervals")
+    public ResponseEntity<byte[]> getStudiosAwardsIntervals(@RequestParam(required = false) Integer from,
+                                                            @RequestParam(required = false) Integer to,
+                                                            WebRequest request) {
+        return awardsIntervals(AwardDimension.STUDIOS, from, to, request);
+    }
+
+    @GetMapping("/studios/awards-intervals/top")
+    public ResponseEntity<StudioIntervalRankingDTO> getTopStudiosAwardsIntervals(
+            @RequestParam(defaultValue = "10") int k) {
+        return topIntervals(AwardDimension.STUDIOS, k, StudioIntervalRankingDTO::from);
+    }
+
+    /**
+     * Lista os filmes em ordem de ano e id. A próxima página é pedida com o {@code nextCursor} da resposta;
+     * {@code size} acima de {@value #MAX_PAGE_SIZE} é limitado.
+     */
+    @GetMapping("/movies")
+    public ResponseEntity<MoviePageDTO> listMovies(@RequestParam(required = false) Integer fromYear,
+                                                   @RequestParam(required = false) Integer toYear,
+                                                   @RequestParam(required = false) Boolean winner,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "20") int size) {
+        if (size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(movieListingService.list(fromYear, toYear, winner, cursor, Math.min(size, MAX_PAGE_SIZE)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/movies")
+    public ResponseEntity<MovieDTO> createMovie(@RequestBody MovieDTO movie) {
+        if (movie.getYear() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(movieUpdateService.create(movie));
+    }
+
+    /**
+     * Importa filmes de um CSV (year;title;studios;producers;winner) enviado no corpo, comprimido ou não com gzip.
+     * O corpo é lido em fluxo; responde {@code 429} se outra importação já estiver em andamento.
+     */
+    @PostMapping("/movies/import")
+    public ResponseEntity<IngestResultDTO> importMovies(InputStream body) throws IOException {
+        return movieImportService.importCsv(body)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build());
+    }
+
+    @PutMapping("/movies/{id}")
+    public ResponseEntity<MovieDTO> updateMovie(@PathVariable Long id, @RequestBody MovieDTO movie) {
+        if (movie.getYear() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return movieUpdateService.update(id, movie)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/movies/{id}")
+    public ResponseEntity<Void> deleteMovie(@PathVariable Long id) {
+        return movieUpdateService.delete(id)
+            ? ResponseEntity.noContent().build()
+            : ResponseEntity.notFound().build();
+    }
+
+    private ResponseEntity<byte[]> awardsIntervals(AwardDimension dimension, Integer from, Integer to,
+                                                   WebRequest request) {
+        Optional<ResponseFormat> negotiated = ResponseFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (!negotiated.isPresent()) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        ResponseFormat format = negotiated.get();
+        if (from != null || to != null) {
+            return awardsIntervalsBetween(dimension, from != null ? from : Integer.MIN_VALUE,
+                to != null ? to : Integer.MAX_VALUE, format);
+        }
+        AwardIntervalSnapshot snapshot = awardIntervalIndex.getSnapshot(dimension);
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = variantETag(snapshot.getETag(), format, gzip);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+            .contentType(format.getMediaType());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(serialized(dimension, snapshot).getBody(format, gzip));
+    }
+
+    private ResponseEntity<byte[]> awardsIntervalsBetween(AwardDimension dimension, int from, int to,
+                                                          ResponseFormat format) {
+        if (from > to) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok()
+            .varyBy(HttpHeaders.ACCEPT)
+            .contentType(format.getMediaType())
+            .body(SerializedIntervals.serialize(view(dimension, awardIntervalIndex.getIntervals(dimension, from, to)),
+                format, objectMapper));
+    }
+
+    private <T> ResponseEntity<T> topIntervals(AwardDimension dimension, int k,
+                                               Function<AwardIntervalRanking, T> view) {
+        if (k < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(view.apply(awardIntervalIndex.getTopIntervals(dimension, Math.min(k, MAX_TOP_K))));
+    }
+
+    /**
+     * O índice calcula as duas dimensões com o mesmo resultado, com o nome em {@code name}; a resposta usa o DTO
+     * da dimensão, com o nome em {@code producer} ou {@code studio}.
+     */
+    private static Object view(AwardDimension dimension, AwardIntervals intervals) {
+        return dimension == AwardDimension.STUDIOS
+            ? StudioAwardsIntervalDTO.from(intervals)
+            : ProducerAwardsIntervalDTO.from(intervals);
+    }
+
+    private SerializedIntervals serialized(AwardDimension dimension, AwardIntervalSnapshot snapshot) {
+        AtomicReference<SerializedIntervals> cache = serializedIntervals.get(dimension);
+        SerializedIntervals serialized = cache.get();
+        if (serialized == null || !serialized.getETag().equals(snapshot.getETag())) {
+            serialized = SerializedIntervals.of(snapshot, view(dimension, snapshot.getIntervals()), objectMapper);
+            cache.set(serialized);
+        }
+        return serialized;
+    }
+
+    /**
+     * Cada formato e a variante comprimida têm ETag próprio, já que os bytes diferem entre si.
+     */
+    private static String variantETag(String eTag, ResponseFormat format, boolean gzip) {
+        String suffix = format.getETagSuffix() + (gzip ? "-gzip" : "");
+        return suffix.isEmpty() ? eTag : eTag.substring(0, eTag.length() - 1) + suffix + "\"";
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                int equals = parts[i].indexOf('=');
+                if (equals > 0 && parts[i].substring(0, equals).trim().equalsIgnoreCase("q")) {
+                    return isPositive(parts[i].substring(equals + 1).trim());
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * {@code q} inválido é tratado como recusa, como no {@code q=0}.
+     */
+    private static boolean isPositive(String quality) {
+        try {
+            return Double.parseDouble(quality) > 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
     }
 }
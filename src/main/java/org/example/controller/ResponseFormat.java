@@ -0,0 +1,75 @@
+package org.example.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Formatos em que os intervalos podem ser enviados, escolhidos pelo cabeçalho {@code Accept}.
+ * CBOR e Smile são binários: menores que o JSON e mais baratos de decodificar no cliente.
+ */
+enum ResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON, "", null),
+    CBOR(MediaType.valueOf("application/cbor"), "-cbor", Jackson2ObjectMapperBuilder.cbor().build()),
+    SMILE(MediaType.valueOf("application/x-jackson-smile"), "-smile", Jackson2ObjectMapperBuilder.smile().build());
+
+    private final MediaType mediaType;
+    private final String eTagSuffix;
+    private final ObjectMapper objectMapper;
+
+    ResponseFormat(MediaType mediaType, String eTagSuffix, ObjectMapper objectMapper) {
+        this.mediaType = mediaType;
+        this.eTagSuffix = eTagSuffix;
+        this.objectMapper = objectMapper;
+    }
+
+    MediaType getMediaType() {
+        return mediaType;
+    }
+
+    String getETagSuffix() {
+        return eTagSuffix;
+    }
+
+    /**
+     * O JSON usa o {@link ObjectMapper} da aplicação; os binários, mapeadores com a mesma configuração
+     * padrão do Spring usada pelos conversores HTTP de CBOR e Smile.
+     */
+    ObjectMapper objectMapper(ObjectMapper json) {
+        return objectMapper != null ? objectMapper : json;
+    }
+
+    /**
+     * Escolhe o formato de maior qualidade aceito; sem {@code Accept}, ou com curingas, responde JSON.
+     *
+     * @return vazio quando nenhum formato suportado é aceito
+     */
+    static Optional<ResponseFormat> negotiate(String accept) {
+        if (accept == null || accept.trim().isEmpty()) {
+            return Optional.of(JSON);
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return Optional.empty();
+        }
+        MediaType.sortBySpecificityAndQuality(accepted);
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (ResponseFormat format : values()) {
+                if (type.includes(format.mediaType)) {
+                    return Optional.of(format);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
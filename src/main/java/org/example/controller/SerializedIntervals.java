@@ -0,0 +1,71 @@
+package org.example.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.ProducerAwardsIntervalDTO;
+import org.example.dto.StudioAwardsIntervalDTO;
+import org.example.service.AwardIntervalSnapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Respostas já serializadas de uma fotografia dos intervalos, por {@link ResponseFormat}, com e sem gzip.
+ * O corpo é o DTO da dimensão ({@link ProducerAwardsIntervalDTO} ou {@link StudioAwardsIntervalDTO}).
+ * Cada variante é gerada na primeira vez que é pedida para a versão do índice; as requisições seguintes
+ * apenas copiam os bytes para a resposta.
+ */
+final class SerializedIntervals {
+
+    private final String eTag;
+    private final Object intervals;
+    private final ObjectMapper objectMapper;
+    private final AtomicReferenceArray<byte[]> bodies = new AtomicReferenceArray<>(ResponseFormat.values().length * 2);
+
+    private SerializedIntervals(String eTag, Object intervals, ObjectMapper objectMapper) {
+        this.eTag = eTag;
+        this.intervals = intervals;
+        this.objectMapper = objectMapper;
+    }
+
+    static SerializedIntervals of(AwardIntervalSnapshot snapshot, Object intervals, ObjectMapper objectMapper) {
+        return new SerializedIntervals(snapshot.getETag(), intervals, objectMapper);
+    }
+
+    String getETag() {
+        return eTag;
+    }
+
+    byte[] getBody(ResponseFormat format, boolean gzip) {
+        int slot = format.ordinal() * 2 + (gzip ? 1 : 0);
+        byte[] body = bodies.get(slot);
+        if (body == null) {
+            body = gzip ? gzip(getBody(format, false)) : serialize(intervals, format, objectMapper);
+            if (!bodies.compareAndSet(slot, null, body)) {
+                body = bodies.get(slot);
+            }
+        }
+        return body;
+    }
+
+    static byte[] serialize(Object intervals, ResponseFormat format, ObjectMapper objectMapper) {
+        try {
+            return format.objectMapper(objectMapper).writeValueAsBytes(intervals);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar os intervalos", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
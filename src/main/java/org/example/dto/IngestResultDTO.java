@@ -0,0 +1,62 @@
+package org.example.dto;
+
+import java.util.List;
+
+public class IngestResultDTO {
+    private Long rows;
+    private Long rejected;
+    private List<RejectedLineDTO> rejectedLines;
+    private Long elapsedMillis;
+    private Double rowsPerSecond;
+
+    public IngestResultDTO() {
+    }
+
+    public IngestResultDTO(Long rows, Long rejected, List<RejectedLineDTO> rejectedLines, Long elapsedMillis) {
+        this.rows = rows;
+        this.rejected = rejected;
+        this.rejectedLines = rejectedLines;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = elapsedMillis > 0 ? rows * 1000.0 / elapsedMillis : rows.doubleValue();
+    }
+
+    public Long getRows() {
+        return rows;
+    }
+
+    public void setRows(Long rows) {
+        this.rows = rows;
+    }
+
+    public Long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(Long rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<RejectedLineDTO> getRejectedLines() {
+        return rejectedLines;
+    }
+
+    public void setRejectedLines(List<RejectedLineDTO> rejectedLines) {
+        this.rejectedLines = rejectedLines;
+    }
+
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public Double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(Double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+}
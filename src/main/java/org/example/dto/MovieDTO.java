@@ -0,0 +1,77 @@
+package org.example.dto;
+
+import org.example.model.Movie;
+
+public class MovieDTO {
+    private Long id;
+    private Integer year;
+    private String title;
+    private String studios;
+    private String producers;
+    private Boolean winner;
+
+    public MovieDTO() {
+    }
+
+    public MovieDTO(Long id, Integer year, String title, String studios, String producers, Boolean winner) {
+        this.id = id;
+        this.year = year;
+        this.title = title;
+        this.studios = studios;
+        this.producers = producers;
+        this.winner = winner;
+    }
+
+    public static MovieDTO from(Movie movie) {
+        return new MovieDTO(movie.getId(), movie.getYear(), movie.getTitle(), movie.getStudios(),
+            movie.getProducers(), movie.getWinner());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public void setYear(Integer year) {
+        this.year = year;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getStudios() {
+        return studios;
+    }
+
+    public void setStudios(String studios) {
+        this.studios = studios;
+    }
+
+    public String getProducers() {
+        return producers;
+    }
+
+    public void setProducers(String producers) {
+        this.producers = producers;
+    }
+
+    public Boolean getWinner() {
+        return winner;
+    }
+
+    public void setWinner(Boolean winner) {
+        this.winner = winner;
+    }
+}
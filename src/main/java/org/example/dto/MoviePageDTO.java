@@ -0,0 +1,32 @@
+package org.example.dto;
+
+import java.util.List;
+
+public class MoviePageDTO {
+    private List<MovieDTO> movies;
+    private String nextCursor;
+
+    public MoviePageDTO() {
+    }
+
+    public MoviePageDTO(List<MovieDTO> movies, String nextCursor) {
+        this.movies = movies;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<MovieDTO> getMovies() {
+        return movies;
+    }
+
+    public void setMovies(List<MovieDTO> movies) {
+        this.movies = movies;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
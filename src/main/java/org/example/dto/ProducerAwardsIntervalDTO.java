@@ -1,5 +1,7 @@
 package org.example.dto;
 
+import org.example.service.AwardIntervals;
+
 import java.util.List;
 
 public class ProducerAwardsIntervalDTO {
@@ -14,6 +16,11 @@ public class ProducerAwardsIntervalDTO {
         this.max = max;
     }
 
+    public static ProducerAwardsIntervalDTO from(AwardIntervals intervals) {
+        return new ProducerAwardsIntervalDTO(ProducerIntervalDTO.from(intervals.getMin()),
+            ProducerIntervalDTO.from(intervals.getMax()));
+    }
+
     public List<ProducerIntervalDTO> getMin() {
         return min;
     }
@@ -1,5 +1,10 @@
 package org.example.dto;
 
+import org.example.service.AwardInterval;
+
+import java.util.ArrayList;
+import java.util.List;
+
 public class ProducerIntervalDTO {
     private String producer;
     private Integer interval;
@@ -16,6 +21,19 @@ public class ProducerIntervalDTO {
         this.followingWin = followingWin;
     }
 
+    public static ProducerIntervalDTO from(AwardInterval interval) {
+        return new ProducerIntervalDTO(interval.getName(), interval.getInterval(), interval.getPreviousWin(),
+            interval.getFollowingWin());
+    }
+
+    public static List<ProducerIntervalDTO> from(List<AwardInterval> intervals) {
+        List<ProducerIntervalDTO> producers = new ArrayList<>(intervals.size());
+        for (AwardInterval interval : intervals) {
+            producers.add(from(interval));
+        }
+        return producers;
+    }
+
     public String getProducer() {
         return producer;
     }
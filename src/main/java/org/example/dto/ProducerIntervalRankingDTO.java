@@ -0,0 +1,39 @@
+package org.example.dto;
+
+import org.example.service.AwardIntervalRanking;
+
+import java.util.List;
+
+public class ProducerIntervalRankingDTO {
+    private List<ProducerIntervalDTO> shortest;
+    private List<ProducerIntervalDTO> longest;
+
+    public ProducerIntervalRankingDTO() {
+    }
+
+    public ProducerIntervalRankingDTO(List<ProducerIntervalDTO> shortest, List<ProducerIntervalDTO> longest) {
+        this.shortest = shortest;
+        this.longest = longest;
+    }
+
+    public static ProducerIntervalRankingDTO from(AwardIntervalRanking ranking) {
+        return new ProducerIntervalRankingDTO(ProducerIntervalDTO.from(ranking.getShortest()),
+            ProducerIntervalDTO.from(ranking.getLongest()));
+    }
+
+    public List<ProducerIntervalDTO> getShortest() {
+        return shortest;
+    }
+
+    public void setShortest(List<ProducerIntervalDTO> shortest) {
+        this.shortest = shortest;
+    }
+
+    public List<ProducerIntervalDTO> getLongest() {
+        return longest;
+    }
+
+    public void setLongest(List<ProducerIntervalDTO> longest) {
+        this.longest = longest;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.dto;
+
+public class RejectedLineDTO {
+    private Long line;
+    private String reason;
+
+    public RejectedLineDTO() {
+    }
+
+    public RejectedLineDTO(Long line, String reason) {
+        this.line = line;
+        this.reason = reason;
+    }
+
+    public Long getLine() {
+        return line;
+    }
+
+    public void setLine(Long line) {
+        this.line = line;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.dto;
+
+import org.example.service.AwardIntervals;
+
+import java.util.List;
+
+public class StudioAwardsIntervalDTO {
+    private List<StudioIntervalDTO> min;
+    private List<StudioIntervalDTO> max;
+
+    public StudioAwardsIntervalDTO() {
+    }
+
+    public StudioAwardsIntervalDTO(List<StudioIntervalDTO> min, List<StudioIntervalDTO> max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public static StudioAwardsIntervalDTO from(AwardIntervals intervals) {
+        return new StudioAwardsIntervalDTO(StudioIntervalDTO.from(intervals.getMin()),
+            StudioIntervalDTO.from(intervals.getMax()));
+    }
+
+    public List<StudioIntervalDTO> getMin() {
+        return min;
+    }
+
+    public void setMin(List<StudioIntervalDTO> min) {
+        this.min = min;
+    }
+
+    public List<StudioIntervalDTO> getMax() {
+        return max;
+    }
+
+    public void setMax(List<StudioIntervalDTO> max) {
+        this.max = max;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.dto;
+
+import org.example.service.AwardInterval;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Intervalo entre vitórias consecutivas de um estúdio; mesmos campos de {@link ProducerIntervalDTO},
+ * com o nome em {@code studio}.
+ */
+public class StudioIntervalDTO {
+    private String studio;
+    private Integer interval;
+    private Integer previousWin;
+    private Integer followingWin;
+
+    public StudioIntervalDTO() {
+    }
+
+    public StudioIntervalDTO(String studio, Integer interval, Integer previousWin, Integer followingWin) {
+        this.studio = studio;
+        this.interval = interval;
+        this.previousWin = previousWin;
+        this.followingWin = followingWin;
+    }
+
+    public static StudioIntervalDTO from(AwardInterval interval) {
+        return new StudioIntervalDTO(interval.getName(), interval.getInterval(), interval.getPreviousWin(),
+            interval.getFollowingWin());
+    }
+
+    public static List<StudioIntervalDTO> from(List<AwardInterval> intervals) {
+        List<StudioIntervalDTO> studios = new ArrayList<>(intervals.size());
+        for (AwardInterval interval : intervals) {
+            studios.add(from(interval));
+        }
+        return studios;
+    }
+
+    public String getStudio() {
+        return studio;
+    }
+
+    public void setStudio(String studio) {
+        this.studio = studio;
+    }
+
+    public Integer getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Integer interval) {
+        this.interval = interval;
+    }
+
+    public Integer getPreviousWin() {
+        return previousWin;
+    }
+
+    public void setPreviousWin(Integer previousWin) {
+        this.previousWin = previousWin;
+    }
+
+    public Integer getFollowingWin() {
+        return followingWin;
+    }
+
+    public void setFollowingWin(Integer followingWin) {
+        this.followingWin = followingWin;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.dto;
+
+import org.example.service.AwardIntervalRanking;
+
+import java.util.List;
+
+public class StudioIntervalRankingDTO {
+    private List<StudioIntervalDTO> shortest;
+    private List<StudioIntervalDTO> longest;
+
+    public StudioIntervalRankingDTO() {
+    }
+
+    public StudioIntervalRankingDTO(List<StudioIntervalDTO> shortest, List<StudioIntervalDTO> longest) {
+        this.shortest = shortest;
+        this.longest = longest;
+    }
+
+    public static StudioIntervalRankingDTO from(AwardIntervalRanking ranking) {
+        return new StudioIntervalRankingDTO(StudioIntervalDTO.from(ranking.getShortest()),
+            StudioIntervalDTO.from(ranking.getLongest()));
+    }
+
+    public List<StudioIntervalDTO> getShortest() {
+        return shortest;
+    }
+
+    public void setShortest(List<StudioIntervalDTO> shortest) {
+        this.shortest = shortest;
+    }
+
+    public List<StudioIntervalDTO> getLongest() {
+        return longest;
+    }
+
+    public void setLongest(List<StudioIntervalDTO> longest) {
+        this.longest = longest;
+    }
+}
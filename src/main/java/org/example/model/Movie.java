@@ -3,11 +3,15 @@ package org.example.model;
 import javax.persistence.*;
 
 @Entity
-@Table(name = "movies")
+@Table(name = "movies", indexes = {
+    @Index(name = "idx_movies_year_id", columnList = "movie_year, id"),
+    @Index(name = "idx_movies_winner_year_id", columnList = "winner, movie_year, id")
+})
 public class Movie {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movies_seq")
+    @SequenceGenerator(name = "movies_seq", sequenceName = "movies_seq", allocationSize = 100)
     private Long id;
     
     @Column(name = "movie_year")
@@ -0,0 +1,84 @@
+package org.example.model;
+
+import javax.persistence.*;
+
+/**
+ * Associação entre filme e produtor. Ano e vencedor são copiados do filme para que
+ * as consultas de intervalos usem apenas o índice (winner, producer_id, movie_year).
+ */
+@Entity
+@Table(name = "movie_producer", indexes = {
+    @Index(name = "idx_movie_producer_winner_producer_year", columnList = "winner, producer_id, movie_year"),
+    @Index(name = "idx_movie_producer_movie", columnList = "movie_id")
+})
+public class MovieProducer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movie_producer_seq")
+    @SequenceGenerator(name = "movie_producer_seq", sequenceName = "movie_producer_seq", allocationSize = 100)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "movie_id", nullable = false)
+    private Movie movie;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "producer_id", nullable = false)
+    private Producer producer;
+
+    @Column(name = "movie_year")
+    private Integer movieYear;
+
+    @Column(name = "winner")
+    private Boolean winner;
+
+    public MovieProducer() {
+    }
+
+    public MovieProducer(Movie movie, Producer producer) {
+        this.movie = movie;
+        this.producer = producer;
+        this.movieYear = movie.getYear();
+        this.winner = movie.getWinner();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Movie getMovie() {
+        return movie;
+    }
+
+    public void setMovie(Movie movie) {
+        this.movie = movie;
+    }
+
+    public Producer getProducer() {
+        return producer;
+    }
+
+    public void setProducer(Producer producer) {
+        this.producer = producer;
+    }
+
+    public Integer getMovieYear() {
+        return movieYear;
+    }
+
+    public void setMovieYear(Integer movieYear) {
+        this.movieYear = movieYear;
+    }
+
+    public Boolean getWinner() {
+        return winner;
+    }
+
+    public void setWinner(Boolean winner) {
+        this.winner = winner;
+    }
+}
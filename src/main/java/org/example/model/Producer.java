@@ -0,0 +1,41 @@
+package org.example.model;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "producers", indexes = {
+    @Index(name = "idx_producers_name", columnList = "name", unique = true)
+})
+public class Producer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "producers_seq")
+    @SequenceGenerator(name = "producers_seq", sequenceName = "producers_seq", allocationSize = 100)
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    public Producer() {
+    }
+
+    public Producer(String name) {
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
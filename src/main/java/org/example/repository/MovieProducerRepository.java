@@ -0,0 +1,39 @@
+package org.example.repository;
+
+import org.example.model.MovieProducer;
+import org.example.repository.projection.ProducerIntervalProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MovieProducerRepository extends JpaRepository<MovieProducer, Long> {
+
+    /**
+     * Intervalos entre vitórias consecutivas calculados no banco com LAG() por produtor,
+     * devolvendo apenas as linhas com o menor ou o maior intervalo. Empates saem por nome e ano da vitória
+     * anterior, a mesma ordem do cálculo em memória.
+     */
+    @Query(value = "WITH gaps AS (" +
+                   "  SELECT w.producer_id, w.previous_win, w.movie_year AS following_win," +
+                   "         w.movie_year - w.previous_win AS gap" +
+                   "  FROM (SELECT mp.producer_id, mp.movie_year," +
+                   "               LAG(mp.movie_year) OVER (PARTITION BY mp.producer_id ORDER BY mp.movie_year) AS previous_win" +
+                   "        FROM movie_producer mp WHERE mp.winner = TRUE) w" +
+                   "  WHERE w.previous_win IS NOT NULL)," +
+                   " bounds AS (SELECT MIN(gap) AS min_gap, MAX(gap) AS max_gap FROM gaps) " +
+                   "SELECT p.name AS producer, g.gap AS gap, g.previous_win AS previousWin, g.following_win AS followingWin " +
+                   "FROM gaps g JOIN bounds b ON g.gap = b.min_gap OR g.gap = b.max_gap " +
+                   "JOIN producers p ON p.id = g.producer_id " +
+                   "ORDER BY g.gap, p.name, g.previous_win",
+           nativeQuery = true)
+    List<ProducerIntervalProjection> findMinMaxIntervals();
+
+    @Modifying
+    @Query("DELETE FROM MovieProducer mp WHERE mp.movie.id = :movieId")
+    void deleteByMovieId(@Param("movieId") Long movieId);
+}
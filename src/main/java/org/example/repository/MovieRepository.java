@@ -1,9 +1,14 @@
 package org.example.repository;
 
+import org.example.dto.MovieDTO;
 import org.example.model.Movie;
+import org.example.repository.projection.WinnerProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,4 +19,45 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     List<Movie> findAllWinnersOrderedByProducerAndYear();
     
     List<Movie> findByWinnerTrue();
+
+    /**
+     * Ano, produtores e estúdios dos vencedores, como projeção: nenhuma entidade é carregada no contexto de persistência.
+     */
+    @Query("SELECT new org.example.repository.projection.WinnerProjection(m.year, m.producers, m.studios) " +
+           "FROM Movie m WHERE m.winner = true")
+    @Transactional(readOnly = true)
+    List<WinnerProjection> findWinners();
+
+    /**
+     * Página de filmes posterior à chave (afterYear, afterId), em ordem de ano e id (paginação por chave).
+     * O {@code m.year >= :afterYear} é redundante, mas é ele que o H2 usa como limite do índice: só com o
+     * {@code OR} a busca começaria no início do {@code idx_movies_year_id} a cada página.
+     */
+    @Query("SELECT new org.example.dto.MovieDTO(m.id, m.year, m.title, m.studios, m.producers, m.winner) " +
+           "FROM Movie m WHERE m.year BETWEEN :fromYear AND :toYear " +
+           "AND m.year >= :afterYear AND (m.year > :afterYear OR (m.year = :afterYear AND m.id > :afterId)) " +
+           "ORDER BY m.year, m.id")
+    List<MovieDTO> findPageAfter(@Param("fromYear") int fromYear, @Param("toYear") int toYear,
+                                 @Param("afterYear") int afterYear, @Param("afterId") long afterId,
+                                 Pageable page);
+
+    /**
+     * Como {@link #findPageAfter}, só com vencedores ou não vencedores. Ordenar também por {@code winner},
+     * constante na consulta, deixa o H2 seguir o {@code idx_movies_winner_year_id} sem ordenar o resultado.
+     */
+    @Query("SELECT new org.example.dto.MovieDTO(m.id, m.year, m.title, m.studios, m.producers, m.winner) " +
+           "FROM Movie m WHERE m.winner = :winner AND m.year BETWEEN :fromYear AND :toYear " +
+           "AND m.year >= :afterYear AND (m.year > :afterYear OR (m.year = :afterYear AND m.id > :afterId)) " +
+           "ORDER BY m.winner, m.year, m.id")
+    List<MovieDTO> findPageAfterByWinner(@Param("winner") boolean winner,
+                                         @Param("fromYear") int fromYear, @Param("toYear") int toYear,
+                                         @Param("afterYear") int afterYear, @Param("afterId") long afterId,
+                                         Pageable page);
+
+    /**
+     * Página de filmes com id maior que {@code afterId}, em ordem de id.
+     */
+    @Query("SELECT new org.example.dto.MovieDTO(m.id, m.year, m.title, m.studios, m.producers, m.winner) " +
+           "FROM Movie m WHERE m.id > :afterId ORDER BY m.id")
+    List<MovieDTO> findPageAfterId(@Param("afterId") long afterId, Pageable page);
 }
@@ -0,0 +1,14 @@
+package org.example.repository;
+
+import org.example.model.Producer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProducerRepository extends JpaRepository<Producer, Long> {
+
+    List<Producer> findByNameIn(Collection<String> names);
+}
@@ -0,0 +1,12 @@
+package org.example.repository.projection;
+
+public interface ProducerIntervalProjection {
+
+    String getProducer();
+
+    Integer getGap();
+
+    Integer getPreviousWin();
+
+    Integer getFollowingWin();
+}
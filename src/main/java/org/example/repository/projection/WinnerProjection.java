@@ -0,0 +1,30 @@
+package org.example.repository.projection;
+
+/**
+ * Colunas de um filme vencedor usadas no cálculo dos intervalos, montadas direto do resultado da consulta
+ * (expressão {@code new} do JPQL), sem entidade gerenciada nem título no contexto de persistência.
+ */
+public final class WinnerProjection {
+
+    private final Integer year;
+    private final String producers;
+    private final String studios;
+
+    public WinnerProjection(Integer year, String producers, String studios) {
+        this.year = year;
+        this.producers = producers;
+        this.studios = studios;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public String getProducers() {
+        return producers;
+    }
+
+    public String getStudios() {
+        return studios;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.service;
+
+import org.example.model.Movie;
+import org.example.repository.projection.WinnerProjection;
+
+import java.util.function.Function;
+
+/**
+ * Coluna de nomes sobre a qual os intervalos entre vitórias são calculados.
+ * As colunas seguem o mesmo formato (nomes separados por vírgula e "and"), lidas pelo {@link NameParser}.
+ */
+public enum AwardDimension {
+
+    PRODUCERS(Movie::getProducers, WinnerProjection::getProducers),
+    STUDIOS(Movie::getStudios, WinnerProjection::getStudios);
+
+    private final Function<Movie, String> names;
+    private final Function<WinnerProjection, String> winnerNames;
+
+    AwardDimension(Function<Movie, String> names, Function<WinnerProjection, String> winnerNames) {
+        this.names = names;
+        this.winnerNames = winnerNames;
+    }
+
+    /**
+     * Conteúdo da coluna desta dimensão no filme.
+     */
+    public String namesOf(Movie movie) {
+        return names.apply(movie);
+    }
+
+    public String namesOf(WinnerProjection winner) {
+        return winnerNames.apply(winner);
+    }
+}
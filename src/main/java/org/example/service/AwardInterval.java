@@ -0,0 +1,35 @@
+package org.example.service;
+
+/**
+ * Intervalo entre vitórias consecutivas de um nome (produtor ou estúdio, conforme a dimensão).
+ * Resultado interno do cálculo; o controller o converte no DTO de resposta da dimensão.
+ */
+public final class AwardInterval {
+    private final String name;
+    private final int interval;
+    private final int previousWin;
+    private final int followingWin;
+
+    public AwardInterval(String name, int interval, int previousWin, int followingWin) {
+        this.name = name;
+        this.interval = interval;
+        this.previousWin = previousWin;
+        this.followingWin = followingWin;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public int getPreviousWin() {
+        return previousWin;
+    }
+
+    public int getFollowingWin() {
+        return followingWin;
+    }
+}
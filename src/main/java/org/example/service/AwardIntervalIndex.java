@@ -0,0 +1,331 @@
+package org.example.service;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.model.Movie;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Índice em memória dos intervalos de prêmios, com uma fotografia por {@link AwardDimension}
+ * (produtores e estúdios). As leituras apenas devolvem a fotografia atual; o cálculo completo só acontece
+ * em {@link #rebuild()}, que monta todas as dimensões numa única leitura dos vencedores. Filmes incluídos,
+ * alterados ou removidos depois disso são aplicados de forma incremental, sem nova leitura da tabela de filmes.
+ */
+@Service
+public class AwardIntervalIndex {
+
+    /**
+     * Tamanho do ranking calculado a cada versão; pedidos maiores recebem o ranking inteiro.
+     */
+    public static final int MAX_TOP_K = 100;
+
+    private final MovieService movieService;
+    private final Map<AwardDimension, Dimension> dimensions = new EnumMap<>(AwardDimension.class);
+    private final String datasetId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong versions = new AtomicLong();
+    private final Counter rebuilds;
+    private final Counter incrementalUpdates;
+    private final Counter restores;
+
+    /**
+     * Quando ligado, o mínimo e o máximo dos produtores são calculados pelo banco a cada alteração de
+     * vencedores, sem manter os anos de vitória em memória. As demais dimensões continuam em memória
+     * e são atualizadas de forma incremental.
+     */
+    @Value("${spring.intervals.compute-in-database:false}")
+    private boolean computeInDatabase;
+
+    @Autowired
+    public AwardIntervalIndex(MovieService movieService, MeterRegistry meterRegistry) {
+        this.movieService = movieService;
+        this.rebuilds = computedCounter(meterRegistry, "rebuild");
+        this.incrementalUpdates = computedCounter(meterRegistry, "incremental");
+        this.restores = computedCounter(meterRegistry, "snapshot");
+        for (AwardDimension dimension : AwardDimension.values()) {
+            dimensions.put(dimension, new Dimension(dimension));
+        }
+    }
+
+    public AwardIntervals getIntervals() {
+        return getSnapshot().getIntervals();
+    }
+
+    public AwardIntervalSnapshot getSnapshot() {
+        return getSnapshot(AwardDimension.PRODUCERS);
+    }
+
+    public AwardIntervalSnapshot getSnapshot(AwardDimension dimension) {
+        AwardIntervalSnapshot snapshot = dimensions.get(dimension).current.get();
+        if (snapshot == null) {
+            snapshot = initialize(dimension);
+        }
+        return snapshot;
+    }
+
+    public AwardIntervalRanking getTopIntervals(int k) {
+        return getTopIntervals(AwardDimension.PRODUCERS, k);
+    }
+
+    /**
+     * Os {@code k} menores e maiores intervalos (até {@value #MAX_TOP_K}), recortados do ranking calculado
+     * quando a fotografia atual foi publicada. Não disputa o bloqueio das recargas: durante uma reconstrução,
+     * responde pela fotografia anterior.
+     */
+    public AwardIntervalRanking getTopIntervals(AwardDimension dimension, int k) {
+        return getSnapshot(dimension).getQueries().top(k);
+    }
+
+    /**
+     * Menores e maiores intervalos considerando apenas as vitórias entre {@code fromYear} e {@code toYear}.
+     * Responde pelo {@link IntervalRangeIndex} da fotografia atual, montado na primeira consulta com período.
+     */
+    public AwardIntervals getIntervals(AwardDimension dimension, int fromYear, int toYear) {
+        return getSnapshot(dimension).getQueries().between(fromYear, toYear);
+    }
+
+    /**
+     * Recalcula os intervalos de todas as dimensões a partir do banco e troca atomicamente as fotografias servidas.
+     *
+     * @return a nova fotografia dos produtores
+     */
+    @Timed(value = "awards.intervals", extraTags = {"stage", "total"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public synchronized AwardIntervalSnapshot rebuild() {
+        Set<AwardDimension> inMemory = EnumSet.allOf(AwardDimension.class);
+        if (computeInDatabase) {
+            inMemory.remove(AwardDimension.PRODUCERS);
+            Dimension producers = dimensions.get(AwardDimension.PRODUCERS);
+            producers.rebuiltWins = null;
+            producers.tracker = null;
+            publish(producers, movieService.computeMinMaxIntervalsInDatabase(), fromDatabase(producers.dimension));
+        }
+
+        Map<AwardDimension, NameWins> wins = movieService.loadWins(inMemory);
+        for (AwardDimension dimension : inMemory) {
+            Dimension state = dimensions.get(dimension);
+            NameWins dimensionWins = wins.get(dimension);
+            state.rebuiltWins = dimensionWins;
+            state.tracker = null;
+            publish(state, movieService.computeMinMaxIntervals(dimensionWins), IntervalQueries.of(dimensionWins));
+        }
+        rebuilds.increment();
+        return dimensions.get(AwardDimension.PRODUCERS).current.get();
+    }
+
+    /**
+     * Publica intervalos já calculados, lidos de um {@link MovieSnapshot}, sem consultar o banco.
+     * Só os intervalos guardados são publicados aqui; o ranking e o índice de períodos são montados na primeira
+     * consulta que precisar deles. Os anos de vitória restaurados passam a ser a base das alterações incrementais
+     * seguintes.
+     */
+    public synchronized void restore(Map<AwardDimension, NameWins> wins,
+                                     Map<AwardDimension, AwardIntervals> intervals) {
+        for (Dimension state : dimensions.values()) {
+            state.rebuiltWins = wins.get(state.dimension);
+            state.tracker = null;
+            publish(state, intervals.get(state.dimension), IntervalQueries.lazy(state.rebuiltWins));
+        }
+        restores.increment();
+    }
+
+    /**
+     * Anos de vitória atuais de cada dimensão, na ordem de {@link AwardDimension}.
+     */
+    synchronized Map<AwardDimension, WinYears> wins() {
+        Map<AwardDimension, WinYears> wins = new EnumMap<>(AwardDimension.class);
+        for (AwardDimension dimension : AwardDimension.values()) {
+            wins.put(dimension, years(dimension));
+        }
+        return wins;
+    }
+
+    public synchronized void movieAdded(Movie movie) {
+        if (!isBuilt()) {
+            rebuild();
+            return;
+        }
+        if (isWin(movie)) {
+            for (Dimension state : incrementalDimensions()) {
+                addWins(state, movie);
+            }
+            publishChanges();
+        }
+    }
+
+    public synchronized void movieRemoved(Movie movie) {
+        if (!isBuilt()) {
+            rebuild();
+            return;
+        }
+        if (isWin(movie)) {
+            for (Dimension state : incrementalDimensions()) {
+                removeWins(state, movie);
+            }
+            publishChanges();
+        }
+    }
+
+    public synchronized void movieChanged(Movie before, Movie after) {
+        if (!isBuilt()) {
+            rebuild();
+            return;
+        }
+        if (isWin(before) || isWin(after)) {
+            for (Dimension state : incrementalDimensions()) {
+                if (isWin(before)) {
+                    removeWins(state, before);
+                }
+                if (isWin(after)) {
+                    addWins(state, after);
+                }
+            }
+            publishChanges();
+        }
+    }
+
+    /**
+     * Anos de vitória já carregados da dimensão; no cálculo pelo banco, são lidos na primeira consulta.
+     */
+    private WinYears years(AwardDimension dimension) {
+        Dimension state = dimensions.get(dimension);
+        if (state.current.get() == null) {
+            rebuild();
+        }
+        if (state.tracker == null && state.rebuiltWins == null) {
+            state.rebuiltWins = movieService.loadWins(EnumSet.of(dimension)).get(dimension);
+        }
+        return state.tracker != null ? state.tracker : state.rebuiltWins;
+    }
+
+    private boolean isBuilt() {
+        return dimensions.get(AwardDimension.PRODUCERS).current.get() != null;
+    }
+
+    /**
+     * Produtores calculados pelo banco não têm anos em memória para atualizar.
+     */
+    private boolean inDatabase(Dimension state) {
+        return computeInDatabase && state.dimension == AwardDimension.PRODUCERS;
+    }
+
+    private List<Dimension> incrementalDimensions() {
+        List<Dimension> incremental = new ArrayList<>(dimensions.size());
+        for (Dimension state : dimensions.values()) {
+            if (!inDatabase(state)) {
+                incremental.add(state);
+            }
+        }
+        return incremental;
+    }
+
+    private static boolean isWin(Movie movie) {
+        return Boolean.TRUE.equals(movie.getWinner()) && movie.getYear() != null;
+    }
+
+    private static void addWins(Dimension state, Movie movie) {
+        IntervalTracker tracker = state.tracker();
+        for (String name : NameParser.parseDistinct(state.dimension.namesOf(movie))) {
+            tracker.addWin(name, movie.getYear());
+        }
+    }
+
+    private static void removeWins(Dimension state, Movie movie) {
+        IntervalTracker tracker = state.tracker();
+        for (String name : NameParser.parseDistinct(state.dimension.namesOf(movie))) {
+            tracker.removeWin(name, movie.getYear());
+        }
+    }
+
+    /**
+     * Publica as dimensões atualizadas de forma incremental; no cálculo pelo banco, os produtores são
+     * recalculados pela consulta SQL, sem recarregar as demais dimensões.
+     */
+    private void publishChanges() {
+        incrementalUpdates.increment();
+        for (Dimension state : dimensions.values()) {
+            if (inDatabase(state)) {
+                state.rebuiltWins = null;
+                publish(state, movieService.computeMinMaxIntervalsInDatabase(), fromDatabase(state.dimension));
+            } else {
+                publish(state, state.tracker.toAwardIntervals(), IntervalQueries.of(state.tracker));
+            }
+        }
+    }
+
+    /**
+     * Publica a nova fotografia com as consultas da versão, criadas pelo chamador sobre uma visão imutável dos
+     * anos, tirada enquanto eles correspondem à versão publicada; o índice de períodos é montado a partir dela
+     * só na primeira consulta com {@code from}/{@code to}.
+     */
+    private void publish(Dimension state, AwardIntervals intervals, IntervalQueries queries) {
+        long version = versions.incrementAndGet();
+        state.current.set(new AwardIntervalSnapshot(datasetId, version, intervals, queries));
+    }
+
+    /**
+     * Publica a nova fotografia com as consultas montadas por {@code loader} na primeira requisição que
+     * precisar delas, fora do bloqueio do índice.
+     */
+    private void publish(Dimension state, AwardIntervals intervals, Supplier<IntervalQueries> loader) {
+        long version = versions.incrementAndGet();
+        state.current.set(new AwardIntervalSnapshot(datasetId, version, intervals, loader));
+    }
+
+    /**
+     * Sem anos em memória (cálculo pelo banco), as consultas leem as vitórias do banco.
+     */
+    private Supplier<IntervalQueries> fromDatabase(AwardDimension dimension) {
+        return () -> IntervalQueries.of(movieService.loadWins(EnumSet.of(dimension)).get(dimension));
+    }
+
+    private static Counter computedCounter(MeterRegistry meterRegistry, String mode) {
+        return Counter.builder("awards.intervals.computed")
+            .description("Cálculos de intervalos publicados no índice")
+            .tag("mode", mode)
+            .register(meterRegistry);
+    }
+
+    private synchronized AwardIntervalSnapshot initialize(AwardDimension dimension) {
+        if (dimensions.get(dimension).current.get() == null) {
+            rebuild();
+        }
+        return dimensions.get(dimension).current.get();
+    }
+
+    /**
+     * Estado de uma dimensão: a fotografia publicada e os anos usados para atualizá-la.
+     */
+    private static final class Dimension {
+        private final AwardDimension dimension;
+        private final AtomicReference<AwardIntervalSnapshot> current = new AtomicReference<>();
+        private NameWins rebuiltWins;
+        private IntervalTracker tracker;
+
+        private Dimension(AwardDimension dimension) {
+            this.dimension = dimension;
+        }
+
+        /**
+         * A estrutura incremental só é montada na primeira alteração após uma recarga completa.
+         */
+        private IntervalTracker tracker() {
+            if (tracker == null) {
+                tracker = new IntervalTracker(rebuiltWins);
+                rebuiltWins = null;
+            }
+            return tracker;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.service;
+
+import java.util.List;
+
+/**
+ * Os K menores ({@code shortest}) e maiores ({@code longest}) intervalos de uma dimensão, em ordem.
+ */
+public final class AwardIntervalRanking {
+    private final List<AwardInterval> shortest;
+    private final List<AwardInterval> longest;
+
+    public AwardIntervalRanking(List<AwardInterval> shortest, List<AwardInterval> longest) {
+        this.shortest = shortest;
+        this.longest = longest;
+    }
+
+    public List<AwardInterval> getShortest() {
+        return shortest;
+    }
+
+    public List<AwardInterval> getLongest() {
+        return longest;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.service;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Fotografia imutável dos intervalos de prêmios de uma {@link AwardDimension}.
+ * Uma nova instância é publicada a cada alteração do conjunto de filmes; o ETag combina
+ * o identificador do índice com a versão, para não repetir valores após um restart.
+ * Junto com os intervalos ficam as {@link IntervalQueries} da mesma versão, montadas na publicação
+ * (ou, na restauração e no cálculo pelo banco, na primeira consulta que precisar delas).
+ */
+public final class AwardIntervalSnapshot {
+
+    private final long version;
+    private final String eTag;
+    private final AwardIntervals intervals;
+    private final Supplier<IntervalQueries> loader;
+    private volatile IntervalQueries queries;
+
+    AwardIntervalSnapshot(String datasetId, long version, AwardIntervals intervals,
+                          IntervalQueries queries) {
+        this(datasetId, version, intervals, () -> queries);
+        this.queries = queries;
+    }
+
+    AwardIntervalSnapshot(String datasetId, long version, AwardIntervals intervals,
+                          Supplier<IntervalQueries> loader) {
+        this.version = version;
+        this.eTag = "\"" + datasetId + "-" + version + "\"";
+        this.intervals = new AwardIntervals(
+            freeze(intervals.getMin()),
+            freeze(intervals.getMax())
+        );
+        this.loader = loader;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public AwardIntervals getIntervals() {
+        return intervals;
+    }
+
+    /**
+     * Montadas no máximo uma vez por fotografia; depois disso, uma leitura volátil.
+     */
+    IntervalQueries getQueries() {
+        IntervalQueries result = queries;
+        if (result == null) {
+            synchronized (this) {
+                result = queries;
+                if (result == null) {
+                    result = loader.get();
+                    queries = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    boolean hasQueries() {
+        return queries != null;
+    }
+
+    private static List<AwardInterval> freeze(List<AwardInterval> intervals) {
+        if (intervals == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(intervals));
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.service;
+
+import java.util.List;
+
+/**
+ * Menores ({@code min}) e maiores ({@code max}) intervalos de uma dimensão, com os empates na {@link IntervalOrder}.
+ */
+public final class AwardIntervals {
+    private final List<AwardInterval> min;
+    private final List<AwardInterval> max;
+
+    public AwardIntervals(List<AwardInterval> min, List<AwardInterval> max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public List<AwardInterval> getMin() {
+        return min;
+    }
+
+    public List<AwardInterval> getMax() {
+        return max;
+    }
+}
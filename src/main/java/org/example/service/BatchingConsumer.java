@@ -0,0 +1,42 @@
+package org.example.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Agrupa os itens recebidos em lotes de tamanho fixo e os entrega ao destino.
+ * {@link #flush()} deve ser chamado ao final para entregar o último lote incompleto.
+ */
+public class BatchingConsumer<T> implements Consumer<T> {
+
+    private final int batchSize;
+    private final Consumer<List<T>> sink;
+    private List<T> batch;
+
+    public BatchingConsumer(int batchSize, Consumer<List<T>> sink) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser positivo: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.sink = sink;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void accept(T item) {
+        batch.add(item);
+        if (batch.size() == batchSize) {
+            flush();
+        }
+    }
+
+    public void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<T> full = batch;
+        batch = new ArrayList<>(batchSize);
+        sink.accept(full);
+    }
+}
@@ -1,61 +1,76 @@
 package org.example.service;
 
 import org.example.model.Movie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 public class CsvReaderService {
 
+    private static final Logger log = LoggerFactory.getLogger(CsvReaderService.class);
+
+    private static final String CLASSPATH_CSV = "data/movielist.csv";
+
     @Value("${spring.csv.filepath}")
     private String csvFilePath;
 
     public List<Movie> readMoviesFromCsv() {
         List<Movie> movies = new ArrayList<>();
-        String line;
-        boolean isFirstLine = true;
+        readMovies(movies::add);
+        return movies;
+    }
 
+    /**
+     * Lê o CSV configurado entregando cada filme ao consumidor, sem manter a lista em memória.
+     * O arquivo de {@code spring.csv.filepath} é mapeado em memória; se não existir, usa o recurso do classpath.
+     *
+     * @return quantidade de filmes lidos
+     */
+    public long readMovies(Consumer<Movie> consumer) {
+        MovieCsvParser parser = new MovieCsvParser(consumer);
         try {
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream("data/movielist.csv");
-            
-            BufferedReader br;
-            if (inputStream != null) {
-                br = new BufferedReader(new InputStreamReader(inputStream));
-            } else {
-                br = new BufferedReader(new FileReader(csvFilePath));
-            }
-
-            while ((line = br.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue;
+            Optional<Path> file = getCsvFile();
+            if (file.isPresent()) {
+                try (FileChannel channel = FileChannel.open(file.get(), StandardOpenOption.READ)) {
+                    return parser.parse(channel);
                 }
+            }
 
-                String[] movieData = line.split(";");
-                if (movieData.length >= 5) {
-                    Movie movie = new Movie();
-                    movie.setYear(Integer.parseInt(movieData[0].trim()));
-                    movie.setTitle(movieData[1].trim());
-                    movie.setStudios(movieData[2].trim());
-                    movie.setProducers(movieData[3].trim());
-                    movie.setWinner("yes".equalsIgnoreCase(movieData[4].trim()));
-                    movies.add(movie);
-                }
+            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(CLASSPATH_CSV);
+            if (inputStream == null) {
+                throw new IOException("Arquivo não encontrado: " + csvFilePath);
+            }
+            try (InputStream in = inputStream) {
+                return parser.parse(in);
             }
-            br.close();
         } catch (IOException e) {
-            e.printStackTrace();
-            throw new RuntimeException("Erro ao ler arquivo CSV: " + e.getMessage());
+            log.error("Erro ao ler o arquivo CSV {}", csvFilePath, e);
+            throw new RuntimeException("Erro ao ler arquivo CSV: " + e.getMessage(), e);
         }
+    }
 
-        return movies;
+    /**
+     * Arquivo configurado em {@code spring.csv.filepath}, se existir no disco.
+     */
+    public Optional<Path> getCsvFile() {
+        if (csvFilePath == null) {
+            return Optional.empty();
+        }
+        Path path = Paths.get(csvFilePath);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
     }
 }
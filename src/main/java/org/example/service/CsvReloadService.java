@@ -0,0 +1,194 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.model.Movie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Recarrega o CSV de {@code spring.csv.filepath} quando o arquivo muda no disco.
+ * A troca dos filmes roda numa única transação, então consultas continuam vendo os dados anteriores
+ * até o commit; em seguida o índice de intervalos é reconstruído e publicado de uma vez.
+ * Alterações que não mudam o conteúdo (mesmo checksum) são ignoradas.
+ */
+@Service
+public class CsvReloadService {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvReloadService.class);
+
+    /**
+     * Espera após um evento para agrupar as várias escritas de uma mesma cópia do arquivo.
+     */
+    private static final long SETTLE_MILLIS = 200;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CsvReaderService csvReaderService;
+    private final MovieBatchWriter movieBatchWriter;
+    private final AwardIntervalIndex awardIntervalIndex;
+    private final TransactionTemplate transaction;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.csv.watch:true}")
+    private boolean watchEnabled;
+
+    @Value("${spring.ingest.batch-size:1000}")
+    private int batchSize;
+
+    private long checksum = -1;
+    private volatile WatchService watchService;
+
+    @Autowired
+    public CsvReloadService(CsvReaderService csvReaderService, MovieBatchWriter movieBatchWriter,
+                            AwardIntervalIndex awardIntervalIndex, PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.csvReaderService = csvReaderService;
+        this.movieBatchWriter = movieBatchWriter;
+        this.awardIntervalIndex = awardIntervalIndex;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Registra o checksum do arquivo já carregado e passa a observar o diretório dele.
+     * Não faz nada se o CSV veio do classpath ou se {@code spring.csv.watch} estiver desligado.
+     */
+    public synchronized void watch() throws IOException {
+        Optional<Path> file = csvReaderService.getCsvFile();
+        if (!file.isPresent()) {
+            return;
+        }
+        checksum = checksum(file.get());
+        if (!watchEnabled || watchService != null) {
+            return;
+        }
+
+        Path csv = file.get().toAbsolutePath();
+        watchService = csv.getFileSystem().newWatchService();
+        csv.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        Thread watcher = new Thread(() -> watchLoop(watchService, csv.getFileName()), "csv-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Observando alterações em {}", csv);
+    }
+
+    /**
+     * Recarrega o CSV se o conteúdo mudou desde a última carga.
+     *
+     * @return falso se o arquivo não existe ou tem o mesmo checksum
+     */
+    public synchronized boolean reload() throws IOException {
+        Optional<Path> file = csvReaderService.getCsvFile();
+        if (!file.isPresent()) {
+            return false;
+        }
+        long current = checksum(file.get());
+        if (current == checksum) {
+            reloadCounter("unchanged").increment();
+            return false;
+        }
+
+        long rows = transaction.execute(status -> replaceMovies());
+        awardIntervalIndex.rebuild();
+        checksum = current;
+        reloadCounter("reloaded").increment();
+        log.info("CSV recarregado: {} filmes", rows);
+        return true;
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        WatchService service = watchService;
+        watchService = null;
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    /**
+     * Os produtores antigos ficam até o fim da carga, para que os nomes repetidos no novo arquivo sejam
+     * reaproveitados; os que não ficaram associados a nenhum filme são removidos na mesma transação.
+     */
+    private long replaceMovies() {
+        entityManager.createQuery("DELETE FROM MovieProducer").executeUpdate();
+        entityManager.createQuery("DELETE FROM Movie").executeUpdate();
+        BatchingConsumer<Movie> batches = new BatchingConsumer<>(batchSize, movieBatchWriter::write);
+        long rows = csvReaderService.readMovies(batches);
+        batches.flush();
+        entityManager.createQuery("DELETE FROM Producer p WHERE NOT EXISTS "
+            + "(SELECT mp.id FROM MovieProducer mp WHERE mp.producer = p)").executeUpdate();
+        return rows;
+    }
+
+    private void watchLoop(WatchService service, Path fileName) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= fileName.equals(event.context()) || event.kind() == StandardWatchEventKinds.OVERFLOW;
+                }
+                key.reset();
+                if (!changed) {
+                    continue;
+                }
+                settle(service);
+                try {
+                    reload();
+                } catch (IOException | RuntimeException e) {
+                    reloadCounter("failed").increment();
+                    log.error("Erro ao recarregar o CSV; os dados anteriores foram mantidos", e);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.debug("Observação do CSV encerrada");
+        }
+    }
+
+    /**
+     * Descarta os eventos que chegam enquanto o arquivo ainda está sendo escrito.
+     */
+    private static void settle(WatchService service) throws InterruptedException {
+        WatchKey key;
+        while ((key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+            key.pollEvents();
+            key.reset();
+        }
+    }
+
+    static long checksum(Path file) throws IOException {
+        CRC32C crc = new CRC32C();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private Counter reloadCounter(String result) {
+        return Counter.builder("csv.reload")
+            .description("Verificações de recarga do CSV")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
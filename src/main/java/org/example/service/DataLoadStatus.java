@@ -0,0 +1,93 @@
+package org.example.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado da carga inicial do CSV, que roda em segundo plano após a subida do contexto.
+ * Enquanto não estiver {@link State#READY}, a API responde {@code 503} (exceto os intervalos, quando
+ * {@link #isIndexReady()}) e o grupo de readiness do Actuator fica fora de serviço; a liveness não depende da carga.
+ */
+@Component
+public class DataLoadStatus {
+
+    public enum State { LOADING, READY, FAILED }
+
+    private final AtomicLong rows = new AtomicLong();
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private final long startedAt = System.nanoTime();
+    private volatile State state = State.LOADING;
+    private volatile boolean indexReady;
+    private volatile long elapsedMillis = -1;
+    private volatile String error;
+
+    public void addRows(long count) {
+        rows.addAndGet(count);
+    }
+
+    /**
+     * Intervalos publicados antes de os filmes terminarem de ser gravados, como na restauração de um snapshot.
+     */
+    public void indexReady() {
+        indexReady = true;
+    }
+
+    public void ready() {
+        finish(State.READY);
+    }
+
+    public void failed(Exception e) {
+        error = e.getMessage();
+        finish(State.FAILED);
+    }
+
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    /**
+     * Verdadeiro quando os endpoints de intervalos já podem responder, mesmo com a gravação dos filmes em andamento.
+     */
+    public boolean isIndexReady() {
+        return isReady() || (indexReady && state == State.LOADING);
+    }
+
+    /**
+     * Espera a carga terminar, com sucesso ou falha.
+     *
+     * @return verdadeiro se os dados ficaram prontos dentro do prazo
+     */
+    public boolean awaitReady(Duration timeout) throws InterruptedException {
+        return finished.await(timeout.toMillis(), TimeUnit.MILLISECONDS) && isReady();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    /**
+     * Duração da carga; enquanto ela roda, o tempo decorrido até agora.
+     */
+    public long getElapsedMillis() {
+        long elapsed = elapsedMillis;
+        return elapsed >= 0 ? elapsed : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    private void finish(State result) {
+        elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        state = result;
+        finished.countDown();
+    }
+}
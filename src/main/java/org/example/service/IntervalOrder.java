@@ -0,0 +1,18 @@
+package org.example.service;
+
+/**
+ * Ordem dos intervalos empatados em todas as respostas: nome e, para o mesmo nome, ano da vitória anterior.
+ * Compartilhada pelo cálculo completo, pela estrutura incremental, pelo ranking e pela consulta SQL
+ * ({@code ORDER BY p.name, g.previous_win}), para que os mesmos dados produzam sempre a mesma resposta,
+ * independente da ordem em que os nomes entraram no dicionário ou na tabela de produtores.
+ */
+final class IntervalOrder {
+
+    private IntervalOrder() {
+    }
+
+    static int compare(String name, int previousWin, String otherName, int otherPreviousWin) {
+        int byName = name.compareTo(otherName);
+        return byName != 0 ? byName : Integer.compare(previousWin, otherPreviousWin);
+    }
+}
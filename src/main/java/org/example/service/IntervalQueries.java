@@ -0,0 +1,84 @@
+package org.example.service;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Consultas derivadas dos anos de vitória de uma versão publicada: o ranking dos
+ * {@value AwardIntervalIndex#MAX_TOP_K} menores e maiores intervalos e o {@link IntervalRangeIndex}
+ * dos períodos. O índice de períodos só é montado na primeira consulta com {@code from}/{@code to} da versão,
+ * a partir da visão imutável dos anos guardada na publicação, e reaproveitado pelas consultas seguintes.
+ */
+final class IntervalQueries {
+
+    private final List<AwardInterval> shortest;
+    private final List<AwardInterval> longest;
+    private final WinYears years;
+    private volatile IntervalRangeIndex range;
+
+    private IntervalQueries(AwardIntervalRanking ranking, WinYears years) {
+        this.shortest = Collections.unmodifiableList(new ArrayList<>(ranking.getShortest()));
+        this.longest = Collections.unmodifiableList(new ArrayList<>(ranking.getLongest()));
+        this.years = years;
+    }
+
+    /**
+     * Depois de uma recarga: o ranking sai dos heaps limitados de {@link IntervalRanking}, em O(n log K).
+     */
+    static IntervalQueries of(NameWins wins) {
+        WinYears frozen = wins.frozen();
+        return new IntervalQueries(IntervalRanking.top(frozen, AwardIntervalIndex.MAX_TOP_K), frozen);
+    }
+
+    /**
+     * Como {@link #of(NameWins)}, mas o ranking só é calculado na primeira consulta à fotografia. A visão
+     * imutável é tirada agora, porque {@code wins} passa a ser a base das alterações incrementais seguintes.
+     */
+    static Supplier<IntervalQueries> lazy(NameWins wins) {
+        WinYears frozen = wins.frozen();
+        return () -> new IntervalQueries(IntervalRanking.top(frozen, AwardIntervalIndex.MAX_TOP_K), frozen);
+    }
+
+    /**
+     * Depois de alterações incrementais: o ranking é lido das pontas do multiconjunto do tracker, em O(K).
+     */
+    static IntervalQueries of(IntervalTracker tracker) {
+        return new IntervalQueries(tracker.top(AwardIntervalIndex.MAX_TOP_K), tracker.frozen());
+    }
+
+    AwardIntervals between(int fromYear, int toYear) {
+        return range().minMax(fromYear, toYear);
+    }
+
+    boolean isRangeBuilt() {
+        return range != null;
+    }
+
+    private IntervalRangeIndex range() {
+        IntervalRangeIndex result = range;
+        if (result == null) {
+            synchronized (this) {
+                result = range;
+                if (result == null) {
+                    result = new IntervalRangeIndex(years);
+                    range = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Os {@code k} primeiros de cada ponta do ranking; {@code k} acima do limite devolve o ranking inteiro.
+     */
+    AwardIntervalRanking top(int k) {
+        return new AwardIntervalRanking(head(shortest, k), head(longest, k));
+    }
+
+    private static List<AwardInterval> head(List<AwardInterval> ranking, int k) {
+        return ranking.subList(0, Math.max(0, Math.min(k, ranking.size())));
+    }
+}
@@ -0,0 +1,254 @@
+package org.example.service;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consulta dos menores e maiores intervalos considerando só as vitórias de um período.
+ * Um intervalo entre vitórias consecutivas entra no período quando {@code previousWin >= from} e
+ * {@code followingWin <= to}. Os intervalos ficam ordenados pelo ano da vitória anterior, de modo que a primeira
+ * condição vira um trecho contíguo, e uma árvore de segmentos sobre esse trecho guarda, em cada nó, o menor e o
+ * maior ano da vitória seguinte e o menor e o maior intervalo do bloco. Um nó inteiro fora do período
+ * ({@code menor fim > to}) é descartado, um nó inteiro dentro ({@code maior fim <= to}) responde pelo valor
+ * acumulado, e os nós mistos descem só enquanto ainda podem melhorar a resposta.
+ * Cada nó interno fica na posição do meio do seu bloco, então a árvore usa arrays de n posições.
+ * Os empates são localizados em outra ordenação, por (intervalo, ano anterior), onde ocupam um trecho contíguo.
+ * Imutável depois de construído; as consultas não alocam nada além da resposta.
+ */
+final class IntervalRangeIndex {
+
+    private final WinYears names;
+    private final int size;
+
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] minEnds;
+    private final int[] maxEnds;
+    private final int[] minGaps;
+    private final int[] maxGaps;
+
+    private final int[] gapValues;
+    private final int[] gapOffsets;
+    private final int[] tieStarts;
+    private final int[] tieNames;
+
+    /**
+     * @param wins anos imutáveis ({@link WinYears#frozen()}); os nomes dos empates são lidos deles na consulta
+     */
+    IntervalRangeIndex(WinYears wins) {
+        this.names = wins;
+        int nameCount = wins.nameCount();
+        int total = 0;
+        for (int id = 0; id < nameCount; id++) {
+            total += Math.max(0, wins.winCount(id) - 1);
+        }
+        this.size = total;
+
+        long[] byStart = new long[size];
+        int[] followingWins = new int[size];
+        int[] nameIds = new int[size];
+        int next = 0;
+        for (int id = 0; id < nameCount; id++) {
+            for (int i = 1; i < wins.winCount(id); i++) {
+                byStart[next] = (long) wins.year(id, i - 1) << 32 | next;
+                followingWins[next] = wins.year(id, i);
+                nameIds[next] = id;
+                next++;
+            }
+        }
+        Arrays.sort(byStart);
+
+        this.starts = new int[size];
+        this.ends = new int[size];
+        int[] positionNames = new int[size];
+        for (int p = 0; p < size; p++) {
+            int i = (int) byStart[p];
+            starts[p] = (int) (byStart[p] >> 32);
+            ends[p] = followingWins[i];
+            positionNames[p] = nameIds[i];
+        }
+
+        this.minEnds = new int[size];
+        this.maxEnds = new int[size];
+        this.minGaps = new int[size];
+        this.maxGaps = new int[size];
+        if (size > 1) {
+            build(0, size);
+        }
+
+        long[] byGap = new long[size];
+        for (int p = 0; p < size; p++) {
+            byGap[p] = (long) (ends[p] - starts[p]) << 32 | p;
+        }
+        Arrays.sort(byGap);
+        this.tieStarts = new int[size];
+        this.tieNames = new int[size];
+        int[] values = new int[size];
+        int[] offsets = new int[size + 1];
+        int groups = 0;
+        for (int j = 0; j < size; j++) {
+            int p = (int) byGap[j];
+            int gap = (int) (byGap[j] >>> 32);
+            tieStarts[j] = starts[p];
+            tieNames[j] = positionNames[p];
+            if (groups == 0 || values[groups - 1] != gap) {
+                values[groups] = gap;
+                offsets[groups] = j;
+                groups++;
+            }
+        }
+        offsets[groups] = size;
+        this.gapValues = Arrays.copyOf(values, groups);
+        this.gapOffsets = Arrays.copyOf(offsets, groups + 1);
+    }
+
+    /**
+     * Menores e maiores intervalos entre vitórias consecutivas com ambos os anos em {@code [fromYear, toYear]},
+     * empatados na {@link IntervalOrder}.
+     */
+    AwardIntervals minMax(int fromYear, int toYear) {
+        int first = lowerBound(starts, 0, size, fromYear);
+        int last = upperBound(starts, first, size, toYear);
+        int min = first < last ? minGap(0, size, first, last, toYear, Integer.MAX_VALUE) : Integer.MAX_VALUE;
+        if (min == Integer.MAX_VALUE) {
+            return new AwardIntervals(new ArrayList<>(), new ArrayList<>());
+        }
+        int max = maxGap(0, size, first, last, toYear, Integer.MIN_VALUE);
+        return new AwardIntervals(ties(min, fromYear, toYear), ties(max, fromYear, toYear));
+    }
+
+    /**
+     * Menor intervalo com fim até {@code toYear} entre as posições {@code [first, last)} do bloco {@code [lo, hi)},
+     * ou {@code best} se nenhum for menor.
+     */
+    private int minGap(int lo, int hi, int first, int last, int toYear, int best) {
+        if (hi <= first || lo >= last) {
+            return best;
+        }
+        if (hi - lo == 1) {
+            return ends[lo] <= toYear ? Math.min(best, ends[lo] - starts[lo]) : best;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (lo >= first && hi <= last) {
+            if (minEnds[mid] > toYear || minGaps[mid] >= best) {
+                return best;
+            }
+            if (maxEnds[mid] <= toYear) {
+                return minGaps[mid];
+            }
+        }
+        return minGap(mid, hi, first, last, toYear, minGap(lo, mid, first, last, toYear, best));
+    }
+
+    /**
+     * Maior intervalo com fim até {@code toYear} entre as posições {@code [first, last)} do bloco {@code [lo, hi)},
+     * ou {@code best} se nenhum for maior.
+     */
+    private int maxGap(int lo, int hi, int first, int last, int toYear, int best) {
+        if (hi <= first || lo >= last) {
+            return best;
+        }
+        if (hi - lo == 1) {
+            return ends[lo] <= toYear ? Math.max(best, ends[lo] - starts[lo]) : best;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (lo >= first && hi <= last) {
+            if (minEnds[mid] > toYear || maxGaps[mid] <= best) {
+                return best;
+            }
+            if (maxEnds[mid] <= toYear) {
+                return maxGaps[mid];
+            }
+        }
+        return maxGap(mid, hi, first, last, toYear, maxGap(lo, mid, first, last, toYear, best));
+    }
+
+    /**
+     * Intervalos de tamanho {@code gap} do período: os que começam entre {@code fromYear} e {@code toYear - gap}.
+     */
+    private List<AwardInterval> ties(int gap, int fromYear, int toYear) {
+        int group = Arrays.binarySearch(gapValues, gap);
+        int lastStart = (int) Math.max(Integer.MIN_VALUE, (long) toYear - gap);
+        int first = lowerBound(tieStarts, gapOffsets[group], gapOffsets[group + 1], fromYear);
+        int end = upperBound(tieStarts, first, gapOffsets[group + 1], lastStart);
+
+        Integer[] order = new Integer[end - first];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = first + i;
+        }
+        Arrays.sort(order, (a, b) -> IntervalOrder.compare(names.nameOf(tieNames[a]), tieStarts[a],
+            names.nameOf(tieNames[b]), tieStarts[b]));
+
+        List<AwardInterval> intervals = new ArrayList<>(order.length);
+        for (int j : order) {
+            intervals.add(new AwardInterval(names.nameOf(tieNames[j]), gap, tieStarts[j], tieStarts[j] + gap));
+        }
+        return intervals;
+    }
+
+    /**
+     * Preenche o nó do bloco {@code [lo, hi)}, com pelo menos duas posições, na posição do meio.
+     */
+    private void build(int lo, int hi) {
+        int mid = (lo + hi) >>> 1;
+        if (mid - lo > 1) {
+            build(lo, mid);
+        }
+        if (hi - mid > 1) {
+            build(mid, hi);
+        }
+        int left = node(lo, mid);
+        int right = node(mid, hi);
+        minEnds[mid] = Math.min(mid - lo > 1 ? minEnds[left] : ends[left], hi - mid > 1 ? minEnds[right] : ends[right]);
+        maxEnds[mid] = Math.max(mid - lo > 1 ? maxEnds[left] : ends[left], hi - mid > 1 ? maxEnds[right] : ends[right]);
+        minGaps[mid] = Math.min(mid - lo > 1 ? minGaps[left] : gap(left), hi - mid > 1 ? minGaps[right] : gap(right));
+        maxGaps[mid] = Math.max(mid - lo > 1 ? maxGaps[left] : gap(left), hi - mid > 1 ? maxGaps[right] : gap(right));
+    }
+
+    /**
+     * Posição que guarda o bloco {@code [lo, hi)}: o meio, ou a própria posição numa folha.
+     */
+    private static int node(int lo, int hi) {
+        return hi - lo > 1 ? (lo + hi) >>> 1 : lo;
+    }
+
+    private int gap(int position) {
+        return ends[position] - starts[position];
+    }
+
+    /**
+     * Primeira posição em {@code [start, end)} com valor maior ou igual a {@code year}.
+     */
+    private static int lowerBound(int[] values, int start, int end, int year) {
+        int low = start;
+        int high = end;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < year) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Primeira posição em {@code [start, end)} com valor maior que {@code year}.
+     */
+    private static int upperBound(int[] values, int start, int end, int year) {
+        int low = start;
+        int high = end;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] <= year) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
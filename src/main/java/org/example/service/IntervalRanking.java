@@ -0,0 +1,141 @@
+package org.example.service;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Os K menores e K maiores intervalos entre vitórias consecutivas, calculados com dois heaps
+ * limitados a K elementos: O(n log K) em tempo e O(K) em memória, sem ordenar todos os intervalos.
+ * Empates seguem a {@link IntervalOrder}: nome e ano da vitória anterior.
+ */
+final class IntervalRanking {
+
+    private IntervalRanking() {
+    }
+
+    static AwardIntervalRanking top(WinYears years, int k) {
+        BoundedHeap shortest = new BoundedHeap(k, false, years);
+        BoundedHeap longest = new BoundedHeap(k, true, years);
+
+        for (int nameId = 0; nameId < years.nameCount(); nameId++) {
+            int wins = years.winCount(nameId);
+            for (int i = 1; i < wins; i++) {
+                int previousWin = years.year(nameId, i - 1);
+                int interval = years.year(nameId, i) - previousWin;
+                shortest.offer(interval, nameId, previousWin);
+                longest.offer(interval, nameId, previousWin);
+            }
+        }
+
+        return new AwardIntervalRanking(shortest.toSortedIntervals(), longest.toSortedIntervals());
+    }
+
+    /**
+     * Heap binário em arrays de int. A raiz é o pior elemento mantido (o maior intervalo, para os menores,
+     * e vice-versa), trocado sempre que aparece um candidato melhor.
+     */
+    private static final class BoundedHeap {
+        private final int capacity;
+        private final boolean largest;
+        private final WinYears names;
+        private final int[] intervals;
+        private final int[] nameIds;
+        private final int[] previousWins;
+        private int size;
+
+        private BoundedHeap(int capacity, boolean largest, WinYears names) {
+            this.capacity = capacity;
+            this.largest = largest;
+            this.names = names;
+            this.intervals = new int[capacity];
+            this.nameIds = new int[capacity];
+            this.previousWins = new int[capacity];
+        }
+
+        private void offer(int interval, int nameId, int previousWin) {
+            if (size < capacity) {
+                set(size, interval, nameId, previousWin);
+                siftUp(size++);
+            } else if (capacity > 0 && compare(interval, nameId, previousWin, 0) < 0) {
+                set(0, interval, nameId, previousWin);
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Negativo quando o candidato vem antes do elemento na posição {@code index} no ranking.
+         */
+        private int compare(int interval, int nameId, int previousWin, int index) {
+            int byInterval = Integer.compare(interval, intervals[index]);
+            if (byInterval != 0) {
+                return largest ? -byInterval : byInterval;
+            }
+            return IntervalOrder.compare(names.nameOf(nameId), previousWin, names.nameOf(nameIds[index]), previousWins[index]);
+        }
+
+        private int compare(int a, int b) {
+            return compare(intervals[a], nameIds[a], previousWins[a], b);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (compare(index, parent) <= 0) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int worst = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && compare(left, worst) > 0) {
+                    worst = left;
+                }
+                if (right < size && compare(right, worst) > 0) {
+                    worst = right;
+                }
+                if (worst == index) {
+                    return;
+                }
+                swap(index, worst);
+                index = worst;
+            }
+        }
+
+        private List<AwardInterval> toSortedIntervals() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> compare(a, b));
+
+            List<AwardInterval> ranking = new ArrayList<>(size);
+            for (int i : order) {
+                ranking.add(new AwardInterval(names.nameOf(nameIds[i]), intervals[i],
+                    previousWins[i], previousWins[i] + intervals[i]));
+            }
+            return ranking;
+        }
+
+        private void set(int index, int interval, int nameId, int previousWin) {
+            intervals[index] = interval;
+            nameIds[index] = nameId;
+            previousWins[index] = previousWin;
+        }
+
+        private void swap(int a, int b) {
+            int interval = intervals[a];
+            int nameId = nameIds[a];
+            int previousWin = previousWins[a];
+            set(a, intervals[b], nameIds[b], previousWins[b]);
+            set(b, interval, nameId, previousWin);
+        }
+    }
+}
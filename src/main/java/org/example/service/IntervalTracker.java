@@ -0,0 +1,276 @@
+package org.example.service;
+
+
+import java.util.*;
+
+/**
+ * Estrutura incremental dos intervalos: anos de vitória ordenados por nome e um multiconjunto
+ * dos intervalos entre vitórias consecutivas, ordenado pelo tamanho do intervalo. Incluir ou remover
+ * uma vitória altera apenas os intervalos vizinhos do nome afetado, em O(log n).
+ * Os nomes são identificados pelos ids do {@link NameDictionary} recebido.
+ * Não é thread-safe; {@link AwardIntervalIndex} serializa as alterações.
+ */
+class IntervalTracker implements WinYears {
+
+    private static final int[] NO_YEARS = new int[0];
+
+    private final NameDictionary names;
+    private int[][] winYears;
+    private final TreeMap<Integer, TreeMap<Gap, Integer>> gaps = new TreeMap<>();
+
+    IntervalTracker(NameWins wins) {
+        this.names = wins.getNames();
+        this.winYears = new int[Math.max(16, names.size())][];
+        for (int nameId = 0; nameId < wins.nameCount(); nameId++) {
+            int[] years = wins.years(nameId);
+            winYears[nameId] = years;
+            for (int i = 1; i < years.length; i++) {
+                addGap(nameId, years[i - 1], years[i]);
+            }
+        }
+    }
+
+    void addWin(String name, int year) {
+        int nameId = names.idOf(name);
+        if (nameId >= winYears.length) {
+            winYears = Arrays.copyOf(winYears, Math.max(nameId + 1, winYears.length * 2));
+        }
+        int[] years = yearsOf(nameId);
+        int position = insertionPoint(years, year);
+
+        boolean hasPrevious = position > 0;
+        boolean hasFollowing = position < years.length;
+        if (hasPrevious && hasFollowing) {
+            removeGap(nameId, years[position - 1], years[position]);
+        }
+        if (hasPrevious) {
+            addGap(nameId, years[position - 1], year);
+        }
+        if (hasFollowing) {
+            addGap(nameId, year, years[position]);
+        }
+
+        int[] updated = new int[years.length + 1];
+        System.arraycopy(years, 0, updated, 0, position);
+        updated[position] = year;
+        System.arraycopy(years, position, updated, position + 1, years.length - position);
+        winYears[nameId] = updated;
+    }
+
+    /**
+     * @return falso se o nome não tinha vitória no ano informado
+     */
+    boolean removeWin(String name, int year) {
+        int nameId = names.find(name);
+        int[] years = yearsOf(nameId);
+        int position = Arrays.binarySearch(years, year);
+        if (position < 0) {
+            return false;
+        }
+
+        boolean hasPrevious = position > 0;
+        boolean hasFollowing = position < years.length - 1;
+        if (hasPrevious) {
+            removeGap(nameId, years[position - 1], year);
+        }
+        if (hasFollowing) {
+            removeGap(nameId, year, years[position + 1]);
+        }
+        if (hasPrevious && hasFollowing) {
+            addGap(nameId, years[position - 1], years[position + 1]);
+        }
+
+        int[] updated = new int[years.length - 1];
+        System.arraycopy(years, 0, updated, 0, position);
+        System.arraycopy(years, position + 1, updated, position, years.length - position - 1);
+        winYears[nameId] = updated;
+        return true;
+    }
+
+    public NameDictionary getNames() {
+        return names;
+    }
+
+    @Override
+    public String nameOf(int nameId) {
+        return names.nameOf(nameId);
+    }
+
+    /**
+     * Tamanho do dicionário, e não a capacidade de {@code winYears}, que cresce em saltos.
+     */
+    @Override
+    public int nameCount() {
+        return names.size();
+    }
+
+    @Override
+    public int winCount(int nameId) {
+        return yearsOf(nameId).length;
+    }
+
+    @Override
+    public int year(int nameId, int index) {
+        return winYears[nameId][index];
+    }
+
+    /**
+     * Os anos de cada nome já são arrays trocados, e não alterados, a cada vitória incluída ou removida:
+     * a visão copia apenas as referências, em O(nomes), sem copiar os anos.
+     */
+    @Override
+    public WinYears frozen() {
+        int nameCount = names.size();
+        return new Frozen(names.names(), Arrays.copyOf(winYears, nameCount));
+    }
+
+    AwardIntervals toAwardIntervals() {
+        if (gaps.isEmpty()) {
+            return new AwardIntervals(new ArrayList<>(), new ArrayList<>());
+        }
+        return new AwardIntervals(toIntervals(gaps.firstEntry()), toIntervals(gaps.lastEntry()));
+    }
+
+    /**
+     * Os {@code k} menores e maiores intervalos, lidos das pontas do multiconjunto em O(K), na mesma ordem de
+     * {@link IntervalRanking}.
+     */
+    AwardIntervalRanking top(int k) {
+        return new AwardIntervalRanking(head(gaps, k), head(gaps.descendingMap(), k));
+    }
+
+    private static List<AwardInterval> head(NavigableMap<Integer, TreeMap<Gap, Integer>> byInterval, int k) {
+        List<AwardInterval> ranking = new ArrayList<>(Math.min(k, 64));
+        for (Map.Entry<Integer, TreeMap<Gap, Integer>> entry : byInterval.entrySet()) {
+            for (Map.Entry<Gap, Integer> gap : entry.getValue().entrySet()) {
+                Gap g = gap.getKey();
+                for (int i = 0; i < gap.getValue(); i++) {
+                    if (ranking.size() >= k) {
+                        return ranking;
+                    }
+                    ranking.add(new AwardInterval(g.name, entry.getKey(), g.previousWin, g.followingWin));
+                }
+            }
+        }
+        return ranking;
+    }
+
+    private List<AwardInterval> toIntervals(Map.Entry<Integer, TreeMap<Gap, Integer>> entry) {
+        List<AwardInterval> intervals = new ArrayList<>();
+        for (Map.Entry<Gap, Integer> gap : entry.getValue().entrySet()) {
+            Gap g = gap.getKey();
+            for (int i = 0; i < gap.getValue(); i++) {
+                intervals.add(new AwardInterval(g.name, entry.getKey(), g.previousWin, g.followingWin));
+            }
+        }
+        return intervals;
+    }
+
+    private int[] yearsOf(int nameId) {
+        int[] years = nameId >= 0 && nameId < winYears.length ? winYears[nameId] : null;
+        return years != null ? years : NO_YEARS;
+    }
+
+    private void addGap(int nameId, int previousWin, int followingWin) {
+        gaps.computeIfAbsent(followingWin - previousWin, k -> new TreeMap<>())
+            .merge(new Gap(nameId, names.nameOf(nameId), previousWin, followingWin), 1, Integer::sum);
+    }
+
+    private void removeGap(int nameId, int previousWin, int followingWin) {
+        int interval = followingWin - previousWin;
+        TreeMap<Gap, Integer> sameInterval = gaps.get(interval);
+        Gap gap = new Gap(nameId, names.nameOf(nameId), previousWin, followingWin);
+        if (sameInterval.merge(gap, -1, Integer::sum) == 0) {
+            sameInterval.remove(gap);
+            if (sameInterval.isEmpty()) {
+                gaps.remove(interval);
+            }
+        }
+    }
+
+    /**
+     * Posição após o último ano menor ou igual a {@code year}, preservando anos repetidos.
+     */
+    private static int insertionPoint(int[] years, int year) {
+        int low = 0;
+        int high = years.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (years[middle] <= year) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static final class Frozen implements WinYears {
+        private final String[] names;
+        private final int[][] winYears;
+
+        private Frozen(String[] names, int[][] winYears) {
+            this.names = names;
+            this.winYears = winYears;
+        }
+
+        @Override
+        public String nameOf(int nameId) {
+            return names[nameId];
+        }
+
+        @Override
+        public int nameCount() {
+            return winYears.length;
+        }
+
+        @Override
+        public int winCount(int nameId) {
+            int[] years = winYears[nameId];
+            return years != null ? years.length : 0;
+        }
+
+        @Override
+        public int year(int nameId, int index) {
+            return winYears[nameId][index];
+        }
+
+        @Override
+        public WinYears frozen() {
+            return this;
+        }
+    }
+
+    private static final class Gap implements Comparable<Gap> {
+        private final int nameId;
+        private final String name;
+        private final int previousWin;
+        private final int followingWin;
+
+        private Gap(int nameId, String name, int previousWin, int followingWin) {
+            this.nameId = nameId;
+            this.name = name;
+            this.previousWin = previousWin;
+            this.followingWin = followingWin;
+        }
+
+        /**
+         * Intervalos de mesmo tamanho seguem a {@link IntervalOrder}, a mesma do cálculo completo.
+         */
+        @Override
+        public int compareTo(Gap other) {
+            int byOrder = IntervalOrder.compare(name, previousWin, other.name, other.previousWin);
+            return byOrder != 0 ? byOrder : Integer.compare(followingWin, other.followingWin);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Gap && compareTo((Gap) o) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * nameId + previousWin) + followingWin;
+        }
+    }
+}
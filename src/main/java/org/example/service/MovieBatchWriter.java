@@ -0,0 +1,40 @@
+package org.example.service;
+
+import org.example.model.Movie;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * Persiste lotes de filmes com inserts em batch JDBC. Chamado fora de uma transação, como na carga inicial
+ * e na importação, cada lote roda na própria transação; chamado dentro de uma, como na recarga do CSV, os lotes
+ * participam dela e são confirmados ou desfeitos juntos. Em ambos os casos o contexto de persistência é limpo
+ * ao final de cada lote, mantendo a memória constante em cargas grandes.
+ */
+@Service
+public class MovieBatchWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ProducerCatalogService producerCatalogService;
+
+    @Autowired
+    public MovieBatchWriter(ProducerCatalogService producerCatalogService) {
+        this.producerCatalogService = producerCatalogService;
+    }
+
+    @Transactional
+    public void write(List<Movie> movies) {
+        for (Movie movie : movies) {
+            entityManager.persist(movie);
+        }
+        producerCatalogService.linkProducers(movies);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
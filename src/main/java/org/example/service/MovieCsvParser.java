@@ -0,0 +1,252 @@
+package org.example.service;
+
+import org.example.model.Movie;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Parser de CSV de filmes (year;title;studios;producers;winner) que percorre os bytes
+ * diretamente, sem materializar linhas ou arrays de campos, e entrega cada filme ao consumidor.
+ * A primeira linha (cabeçalho) é ignorada, assim como linhas com menos de cinco campos.
+ * Sem {@link RejectHandler}, um ano inválido interrompe a leitura com {@link NumberFormatException}.
+ */
+public final class MovieCsvParser {
+
+    /**
+     * Recebe as linhas rejeitadas; a numeração é relativa ao início do conteúdo lido por este parser.
+     */
+    @FunctionalInterface
+    public interface RejectHandler {
+        void reject(long line, String reason);
+    }
+
+    private static final int FIELD_COUNT = 5;
+    private static final byte SEPARATOR = ';';
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final long MAPPING_WINDOW_SIZE = 64L * 1024 * 1024;
+    private static final byte[] YES = {'y', 'e', 's'};
+
+    private final Consumer<Movie> consumer;
+    private final RejectHandler rejectHandler;
+    private final int[] fieldStarts = new int[FIELD_COUNT];
+    private final int[] fieldEnds = new int[FIELD_COUNT];
+    private byte[] scratch = new byte[256];
+    private boolean headerSkipped;
+    private long lineNumber;
+    private long rows;
+
+    public MovieCsvParser(Consumer<Movie> consumer) {
+        this(consumer, null, true);
+    }
+
+    /**
+     * @param rejectHandler recebe as linhas inválidas, que são descartadas sem interromper a leitura
+     * @param skipHeader    falso para trechos que não começam no início do arquivo
+     */
+    public MovieCsvParser(Consumer<Movie> consumer, RejectHandler rejectHandler, boolean skipHeader) {
+        this.consumer = consumer;
+        this.rejectHandler = rejectHandler;
+        this.headerSkipped = !skipHeader;
+    }
+
+    /**
+     * Lê todo o stream em blocos de tamanho fixo; apenas a linha incompleta do fim do bloco é copiada.
+     */
+    public long parse(InputStream inputStream) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+        int read;
+        while ((read = inputStream.read(buffer.array(), buffer.position(), buffer.remaining())) != -1) {
+            buffer.position(buffer.position() + read);
+            buffer.flip();
+            parseLines(buffer, false);
+            buffer.compact();
+            if (!buffer.hasRemaining()) {
+                buffer = grow(buffer);
+            }
+        }
+        buffer.flip();
+        parseLines(buffer, true);
+        return rows;
+    }
+
+    /**
+     * Mapeia o arquivo em memória em janelas alinhadas a quebras de linha.
+     */
+    public long parse(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        long window = MAPPING_WINDOW_SIZE;
+        while (position < size) {
+            long length = Math.min(window, size - position);
+            boolean last = position + length == size;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            parseLines(buffer, last);
+            if (buffer.position() == 0 && !last) {
+                window = Math.min(window * 2, Integer.MAX_VALUE);
+            }
+            position += buffer.position();
+        }
+        return rows;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getLines() {
+        return lineNumber;
+    }
+
+    /**
+     * Processa as linhas completas do buffer. Se {@code endOfInput} for falso, a linha final sem
+     * quebra é deixada no buffer (a posição fica no início dela) para ser completada pela próxima leitura.
+     */
+    void parseLines(ByteBuffer buffer, boolean endOfInput) {
+        int lineStart = buffer.position();
+        int limit = buffer.limit();
+        for (int i = lineStart; i < limit; i++) {
+            if (buffer.get(i) == '\n') {
+                parseLine(buffer, lineStart, i);
+                lineStart = i + 1;
+            }
+        }
+        if (endOfInput && lineStart < limit) {
+            parseLine(buffer, lineStart, limit);
+            lineStart = limit;
+        }
+        buffer.position(lineStart);
+    }
+
+    private void parseLine(ByteBuffer buffer, int start, int end) {
+        lineNumber++;
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        if (!headerSkipped) {
+            headerSkipped = true;
+            return;
+        }
+
+        int field = 0;
+        fieldStarts[0] = start;
+        for (int i = start; i < end && field < FIELD_COUNT; i++) {
+            if (buffer.get(i) == SEPARATOR) {
+                fieldEnds[field++] = i;
+                if (field < FIELD_COUNT) {
+                    fieldStarts[field] = i + 1;
+                }
+            }
+        }
+        if (field < FIELD_COUNT - 1) {
+            if (rejectHandler != null && skipTrailingSpaces(buffer, start, end) > start) {
+                rejectHandler.reject(lineNumber, "Linha com menos de " + FIELD_COUNT + " campos");
+            }
+            return;
+        }
+        if (field == FIELD_COUNT - 1) {
+            fieldEnds[field] = end;
+        }
+
+        int year;
+        try {
+            year = parseYear(buffer, fieldStarts[0], fieldEnds[0]);
+        } catch (NumberFormatException e) {
+            if (rejectHandler == null) {
+                throw e;
+            }
+            rejectHandler.reject(lineNumber, e.getMessage());
+            return;
+        }
+
+        Movie movie = new Movie();
+        movie.setYear(year);
+        movie.setTitle(text(buffer, fieldStarts[1], fieldEnds[1]));
+        movie.setStudios(text(buffer, fieldStarts[2], fieldEnds[2]));
+        movie.setProducers(text(buffer, fieldStarts[3], fieldEnds[3]));
+        movie.setWinner(isYes(buffer, fieldStarts[4], fieldEnds[4]));
+        rows++;
+        consumer.accept(movie);
+    }
+
+    private int parseYear(ByteBuffer buffer, int start, int end) {
+        start = skipLeadingSpaces(buffer, start, end);
+        end = skipTrailingSpaces(buffer, start, end);
+        if (start == end) {
+            throw invalidYear();
+        }
+        int year = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9 || year > (Integer.MAX_VALUE - digit) / 10) {
+                throw invalidYear();
+            }
+            year = year * 10 + digit;
+        }
+        return year;
+    }
+
+    private NumberFormatException invalidYear() {
+        return new NumberFormatException("Ano inválido na linha " + lineNumber);
+    }
+
+    private String text(ByteBuffer buffer, int start, int end) {
+        start = skipLeadingSpaces(buffer, start, end);
+        end = skipTrailingSpaces(buffer, start, end);
+        int length = end - start;
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            scratch[i] = buffer.get(start + i);
+        }
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isYes(ByteBuffer buffer, int start, int end) {
+        start = skipLeadingSpaces(buffer, start, end);
+        end = skipTrailingSpaces(buffer, start, end);
+        if (end - start != YES.length) {
+            return false;
+        }
+        for (int i = 0; i < YES.length; i++) {
+            if ((buffer.get(start + i) | 0x20) != YES[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipLeadingSpaces(ByteBuffer buffer, int start, int end) {
+        while (start < end && isSpace(buffer.get(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int skipTrailingSpaces(ByteBuffer buffer, int start, int end) {
+        while (end > start && isSpace(buffer.get(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer) {
+        ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+}
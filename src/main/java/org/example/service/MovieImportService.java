@@ -0,0 +1,67 @@
+package org.example.service;
+
+import org.example.dto.IngestResultDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Importação de filmes enviados como CSV (opcionalmente comprimido com gzip) no corpo da requisição.
+ * O conteúdo é lido em fluxo pelo {@link ParallelCsvIngestService}; ao final, o índice de intervalos é
+ * reconstruído uma vez e trocado atomicamente, então as leituras continuam servindo a fotografia anterior.
+ * O número de importações simultâneas é limitado para não ocupar todas as conexões do banco.
+ */
+@Service
+public class MovieImportService {
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private final ParallelCsvIngestService parallelCsvIngestService;
+    private final AwardIntervalIndex awardIntervalIndex;
+    private final Semaphore imports;
+
+    @Autowired
+    public MovieImportService(ParallelCsvIngestService parallelCsvIngestService,
+                              AwardIntervalIndex awardIntervalIndex,
+                              @Value("${spring.ingest.max-concurrent-imports:1}") int maxConcurrentImports) {
+        this.parallelCsvIngestService = parallelCsvIngestService;
+        this.awardIntervalIndex = awardIntervalIndex;
+        this.imports = new Semaphore(maxConcurrentImports);
+    }
+
+    /**
+     * @return vazio se o limite de importações simultâneas já foi atingido
+     */
+    public Optional<IngestResultDTO> importCsv(InputStream body) throws IOException {
+        if (!imports.tryAcquire()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(parallelCsvIngestService.ingest(decompressed(body)));
+        } finally {
+            try {
+                awardIntervalIndex.rebuild();
+            } finally {
+                imports.release();
+            }
+        }
+    }
+
+    /**
+     * Reconhece gzip pelos dois primeiros bytes, independente dos cabeçalhos enviados.
+     */
+    static InputStream decompressed(InputStream body) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(body);
+        in.mark(2);
+        int magic = in.read() | (in.read() << 8);
+        in.reset();
+        return magic == GZIP_MAGIC ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+}
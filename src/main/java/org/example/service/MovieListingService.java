@@ -0,0 +1,73 @@
+package org.example.service;
+
+import org.example.dto.MovieDTO;
+import org.example.dto.MoviePageDTO;
+import org.example.repository.MovieRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Listagem de filmes com paginação por chave (ano, id): cada página continua a partir do último
+ * filme da anterior, usando o índice, em vez de pular linhas com OFFSET.
+ */
+@Service
+public class MovieListingService {
+
+    private final MovieRepository movieRepository;
+
+    @Autowired
+    public MovieListingService(MovieRepository movieRepository) {
+        this.movieRepository = movieRepository;
+    }
+
+    /**
+     * @param cursor {@code nextCursor} da página anterior, ou nulo para a primeira página
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    @Transactional(readOnly = true)
+    public MoviePageDTO list(Integer fromYear, Integer toYear, Boolean winner, String cursor, int size) {
+        int afterYear = Integer.MIN_VALUE;
+        long afterId = Long.MIN_VALUE;
+        if (cursor != null) {
+            long[] key = decodeCursor(cursor);
+            afterYear = (int) key[0];
+            afterId = key[1];
+        }
+        int from = fromYear != null ? fromYear : Integer.MIN_VALUE;
+        int to = toYear != null ? toYear : Integer.MAX_VALUE;
+        PageRequest page = PageRequest.of(0, size + 1);
+
+        List<MovieDTO> movies = winner == null
+            ? movieRepository.findPageAfter(from, to, afterYear, afterId, page)
+            : movieRepository.findPageAfterByWinner(winner, from, to, afterYear, afterId, page);
+
+        String nextCursor = null;
+        if (movies.size() > size) {
+            movies = movies.subList(0, size);
+            MovieDTO last = movies.get(size - 1);
+            nextCursor = encodeCursor(last.getYear(), last.getId());
+        }
+        return new MoviePageDTO(movies, nextCursor);
+    }
+
+    static String encodeCursor(int year, long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((year + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static long[] decodeCursor(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.indexOf(':');
+            return new long[]{Integer.parseInt(key.substring(0, separator)), Long.parseLong(key.substring(separator + 1))};
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor, e);
+        }
+    }
+}
@@ -1,98 +1,224 @@
 package org.example.service;
 
-import org.example.dto.ProducerAwardsIntervalDTO;
-import org.example.dto.ProducerIntervalDTO;
-import org.example.model.Movie;
+import io.micrometer.core.annotation.Timed;
+import org.example.repository.MovieProducerRepository;
 import org.example.repository.MovieRepository;
+import org.example.repository.projection.ProducerIntervalProjection;
+import org.example.repository.projection.WinnerProjection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class MovieService {
 
     private final MovieRepository movieRepository;
+    private final MovieProducerRepository movieProducerRepository;
 
     @Autowired
-    public MovieService(MovieRepository movieRepository) {
+    public MovieService(MovieRepository movieRepository, MovieProducerRepository movieProducerRepository) {
         this.movieRepository = movieRepository;
+        this.movieProducerRepository = movieProducerRepository;
     }
 
-    public ProducerAwardsIntervalDTO getProducersWithMinMaxAwardsInterval() {
-        List<Movie> winners = movieRepository.findByWinnerTrue();
+    /**
+     * Leitura e cálculo completos dos intervalos dos produtores, sem passar pelo índice (usado pelos benchmarks).
+     */
+    public AwardIntervals getProducersWithMinMaxAwardsInterval() {
+        return computeMinMaxIntervals(loadProducerWins());
+    }
+
+    /**
+     * Agrupa os anos das vitórias de cada produtor, em ordem crescente.
+     */
+    public NameWins loadProducerWins() {
+        return loadWins(EnumSet.of(AwardDimension.PRODUCERS)).get(AwardDimension.PRODUCERS);
+    }
+
+    /**
+     * Agrupa os anos das vitórias de cada nome das dimensões pedidas, numa única leitura dos vencedores.
+     * Os nomes são convertidos em ids do dicionário de cada dimensão direto dos trechos das colunas.
+     * A leitura traz só ano, produtores e estúdios, numa transação somente leitura (sem flush nem dirty checking).
+     */
+    @Timed(value = "awards.intervals", extraTags = {"stage", "load"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Transactional(readOnly = true)
+    public Map<AwardDimension, NameWins> loadWins(Set<AwardDimension> dimensions) {
+        Map<AwardDimension, NameWins> wins = new EnumMap<>(AwardDimension.class);
+        if (dimensions.isEmpty()) {
+            return wins;
+        }
+        List<WinnerProjection> winners = movieRepository.findWinners();
         
-        Map<String, List<Integer>> producerWins = new HashMap<>();
+        AwardDimension[] columns = dimensions.toArray(new AwardDimension[0]);
+        WinCollector[] collectors = new WinCollector[columns.length];
+        for (int d = 0; d < columns.length; d++) {
+            collectors[d] = new WinCollector(new NameWins());
+        }
         
-        for (Movie movie : winners) {
-            String[] producers = parseProducers(movie.getProducers());
-            for (String producer : producers) {
-                producerWins.computeIfAbsent(producer, k -> new ArrayList<>()).add(movie.getYear());
+        for (WinnerProjection winner : winners) {
+            for (int d = 0; d < columns.length; d++) {
+                collectors[d].startMovie(winner.getYear());
+                NameParser.forEachName(columns[d].namesOf(winner), collectors[d]);
             }
         }
         
-        List<ProducerIntervalDTO> allIntervals = new ArrayList<>();
+        for (int d = 0; d < columns.length; d++) {
+            collectors[d].wins.sortYears();
+            wins.put(columns[d], collectors[d].wins);
+        }
+        return wins;
+    }
+
+    /**
+     * Calcula os menores e maiores intervalos a partir dos anos de vitória já ordenados de cada nome
+     * (produtor ou estúdio, conforme a dimensão que montou {@code wins}).
+     * Uma única passada mantém o menor e o maior intervalo vistos e seus empates; só os intervalos
+     * do resultado viram {@link AwardInterval}, com o nome resolvido pelo dicionário, na {@link IntervalOrder}.
+     */
+    @Timed(value = "awards.intervals", extraTags = {"stage", "compute"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public AwardIntervals computeMinMaxIntervals(NameWins wins) {
+        IntervalTies min = new IntervalTies();
+        IntervalTies max = new IntervalTies();
         
-        for (Map.Entry<String, List<Integer>> entry : producerWins.entrySet()) {
-            String producer = entry.getKey();
-            List<Integer> years = entry.getValue();
+        for (int nameId = 0; nameId < wins.nameCount(); nameId++) {
+            int winCount = wins.winCount(nameId);
             
-            if (years.size() > 1) {
-                Collections.sort(years);
-                for (int i = 1; i < years.size(); i++) {
-                    int interval = years.get(i) - years.get(i - 1);
-                    allIntervals.add(new ProducerIntervalDTO(
-                        producer,
-                        interval,
-                        years.get(i - 1),
-                        years.get(i)
-                    ));
+            for (int i = 1; i < winCount; i++) {
+                int previousWin = wins.year(nameId, i - 1);
+                int followingWin = wins.year(nameId, i);
+                int interval = followingWin - previousWin;
+                
+                if (min.isEmpty() || interval < min.interval) {
+                    min.reset(interval);
+                }
+                if (interval == min.interval) {
+                    min.add(nameId, previousWin, followingWin);
+                }
+                if (max.isEmpty() || interval > max.interval) {
+                    max.reset(interval);
+                }
+                if (interval == max.interval) {
+                    max.add(nameId, previousWin, followingWin);
                 }
             }
         }
         
-        if (allIntervals.isEmpty()) {
-            return new ProducerAwardsIntervalDTO(new ArrayList<>(), new ArrayList<>());
+        NameDictionary names = wins.getNames();
+        return new AwardIntervals(min.toIntervals(names), max.toIntervals(names));
+    }
+
+    /**
+     * Mesmo resultado de {@link #computeMinMaxIntervals(NameWins)}, mas calculado pelo banco sobre a
+     * tabela normalizada movie_producer; apenas as linhas do menor e do maior intervalo chegam à aplicação.
+     */
+    @Timed(value = "awards.intervals", extraTags = {"stage", "database"}, histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Transactional(readOnly = true)
+    public AwardIntervals computeMinMaxIntervalsInDatabase() {
+        List<ProducerIntervalProjection> rows = movieProducerRepository.findMinMaxIntervals();
+        List<AwardInterval> minIntervals = new ArrayList<>();
+        List<AwardInterval> maxIntervals = new ArrayList<>();
+        if (rows.isEmpty()) {
+            return new AwardIntervals(minIntervals, maxIntervals);
         }
         
-        int minInterval = allIntervals.stream()
-            .mapToInt(ProducerIntervalDTO::getInterval)
-            .min()
-            .orElse(0);
-        
-        int maxInterval = allIntervals.stream()
-            .mapToInt(ProducerIntervalDTO::getInterval)
-            .max()
-            .orElse(0);
-        
-        List<ProducerIntervalDTO> minIntervals = allIntervals.stream()
-            .filter(p -> p.getInterval() == minInterval)
-            .collect(Collectors.toList());
-        
-        List<ProducerIntervalDTO> maxIntervals = allIntervals.stream()
-            .filter(p -> p.getInterval() == maxInterval)
-            .collect(Collectors.toList());
-        
-        return new ProducerAwardsIntervalDTO(minIntervals, maxIntervals);
+        int minInterval = rows.get(0).getGap();
+        int maxInterval = rows.get(rows.size() - 1).getGap();
+        for (ProducerIntervalProjection row : rows) {
+            AwardInterval interval = new AwardInterval(
+                row.getProducer(), row.getGap(), row.getPreviousWin(), row.getFollowingWin());
+            if (row.getGap() == minInterval) {
+                minIntervals.add(interval);
+            }
+            if (row.getGap() == maxInterval) {
+                maxIntervals.add(interval);
+            }
+        }
+        return new AwardIntervals(minIntervals, maxIntervals);
     }
-    
+
     /**
-     * Analisa a string de produtores e retorna um array com os nomes individuais.
-     * Trata separadores como ", ", " and ", " e ".
+     * Registra cada nome encontrado pelo parser no ano do filme corrente, sem criar objetos por filme.
+     * Um nome repetido no mesmo filme conta uma vez, como em {@link NameParser#parseDistinct}.
      */
-    private String[] parseProducers(String producersString) {
-        if (producersString == null || producersString.trim().isEmpty()) {
-            return new String[0];
+    private static final class WinCollector implements NameParser.NameSpanConsumer {
+        private final NameWins wins;
+        private final NameDictionary names;
+        private int year;
+        private int[] movieNames = new int[8];
+        private int movieNameCount;
+
+        private WinCollector(NameWins wins) {
+            this.wins = wins;
+            this.names = wins.getNames();
+        }
+
+        private void startMovie(int year) {
+            this.year = year;
+            this.movieNameCount = 0;
+        }
+
+        @Override
+        public void accept(String source, int start, int end) {
+            int id = names.idOf(source, start, end);
+            for (int i = 0; i < movieNameCount; i++) {
+                if (movieNames[i] == id) {
+                    return;
+                }
+            }
+            if (movieNameCount == movieNames.length) {
+                movieNames = Arrays.copyOf(movieNames, movieNameCount * 2);
+            }
+            movieNames[movieNameCount++] = id;
+            wins.add(id, year);
+        }
+    }
+
+    /**
+     * Intervalos empatados no menor (ou maior) valor visto até o momento, guardados como ints.
+     */
+    private static final class IntervalTies {
+        private int interval;
+        private int size;
+        private int[] nameIds = new int[4];
+        private int[] previousWins = new int[4];
+        private int[] followingWins = new int[4];
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void reset(int interval) {
+            this.interval = interval;
+            this.size = 0;
+        }
+
+        private void add(int nameId, int previousWin, int followingWin) {
+            if (size == nameIds.length) {
+                nameIds = Arrays.copyOf(nameIds, size * 2);
+                previousWins = Arrays.copyOf(previousWins, size * 2);
+                followingWins = Arrays.copyOf(followingWins, size * 2);
+            }
+            nameIds[size] = nameId;
+            previousWins[size] = previousWin;
+            followingWins[size] = followingWin;
+            size++;
+        }
+
+        private List<AwardInterval> toIntervals(NameDictionary names) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> IntervalOrder.compare(names.nameOf(nameIds[a]), previousWins[a],
+                names.nameOf(nameIds[b]), previousWins[b]));
+
+            List<AwardInterval> intervals = new ArrayList<>(size);
+            for (int i : order) {
+                intervals.add(new AwardInterval(names.nameOf(nameIds[i]), interval, previousWins[i], followingWins[i]));
+            }
+            return intervals;
         }
-        
-        String normalized = producersString
-            .replaceAll(" and ", ",")
-            .replaceAll(" e ", ",");
-        
-        return Arrays.stream(normalized.split(","))
-            .map(String::trim)
-            .filter(s -> !s.isEmpty())
-            .toArray(String[]::new);
     }
 }
@@ -0,0 +1,335 @@
+package org.example.service;
+
+import org.example.dto.MovieDTO;
+import org.example.model.Movie;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Arquivo binário com os filmes carregados de um CSV e os intervalos já calculados, para reiniciar sem
+ * reprocessar o CSV. O arquivo é mapeado em memória e lido direto das colunas:
+ * <pre>
+ * cabeçalho   magic, versão, checksum do CSV, filmes, textos, dimensões
+ * textos      offsets[textos + 1] e os bytes UTF-8 de cada texto distinto
+ * filmes      anos[filmes], bitset de vencedores, e títulos, estúdios e produtores como índices de texto
+ * dimensões   por {@link AwardDimension}: dicionário de nomes, anos de vitória em CSR e intervalos mínimo e máximo
+ * </pre>
+ * Um arquivo de outra versão, de outro CSV ou truncado é recusado em {@link #open(Path, long)}.
+ */
+public class MovieSnapshot {
+
+    private static final int MAGIC = 0x52415753;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 28;
+    private static final int NULL_YEAR = Integer.MIN_VALUE;
+    private static final int NULL_TEXT = -1;
+
+    private final ByteBuffer buffer;
+    private final int movieCount;
+    private final int textCount;
+    private final int textData;
+    private final int years;
+    private final int winners;
+    private final int titles;
+    private final int studios;
+    private final int producers;
+    private final Map<AwardDimension, NameWins> wins = new EnumMap<>(AwardDimension.class);
+    private final Map<AwardDimension, AwardIntervals> intervals = new EnumMap<>(AwardDimension.class);
+
+    private MovieSnapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.movieCount = buffer.getInt(16);
+        this.textCount = buffer.getInt(20);
+        int dimensionCount = buffer.getInt(24);
+
+        this.textData = HEADER_BYTES + (textCount + 1) * 4;
+        this.years = textData + buffer.getInt(HEADER_BYTES + textCount * 4);
+        this.winners = years + movieCount * 4;
+        this.titles = winners + words(movieCount) * 8;
+        this.studios = titles + movieCount * 4;
+        this.producers = studios + movieCount * 4;
+
+        ByteBuffer in = buffer.duplicate();
+        in.position(producers + movieCount * 4);
+        for (int d = 0; d < dimensionCount; d++) {
+            readDimension(in);
+        }
+        if (wins.size() != AwardDimension.values().length) {
+            throw new IllegalStateException("Dimensões ausentes: " + wins.keySet());
+        }
+    }
+
+    /**
+     * Mapeia o arquivo e valida o cabeçalho e as dimensões.
+     *
+     * @return vazio se o arquivo não existe ou foi gerado a partir de um CSV com outro checksum
+     * @throws IOException se o arquivo for de outra versão ou estiver corrompido
+     */
+    public static Optional<MovieSnapshot> open(Path file, long csvChecksum) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Tamanho inválido: " + channel.size() + " bytes");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Formato ou versão desconhecidos");
+        }
+        if (buffer.getLong(8) != csvChecksum) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new MovieSnapshot(buffer));
+        } catch (RuntimeException e) {
+            throw new IOException("Arquivo corrompido: " + e.getMessage(), e);
+        }
+    }
+
+    public int movieCount() {
+        return movieCount;
+    }
+
+    /**
+     * Filme na posição {@code index}, na ordem em que foi gravado; sem id, pronto para ser persistido.
+     */
+    public Movie movie(int index) {
+        int year = buffer.getInt(years + index * 4);
+        boolean winner = (buffer.getLong(winners + (index >>> 6) * 8) & (1L << index)) != 0;
+        return new Movie(
+            year == NULL_YEAR ? null : year,
+            text(buffer.getInt(titles + index * 4)),
+            text(buffer.getInt(studios + index * 4)),
+            text(buffer.getInt(producers + index * 4)),
+            winner
+        );
+    }
+
+    public Map<AwardDimension, NameWins> wins() {
+        return wins;
+    }
+
+    public Map<AwardDimension, AwardIntervals> intervals() {
+        return intervals;
+    }
+
+    private void readDimension(ByteBuffer in) {
+        AwardDimension dimension = AwardDimension.valueOf(text(in.getInt()));
+        int nameCount = in.getInt();
+        NameWins dimensionWins = new NameWins();
+        for (int id = 0; id < nameCount; id++) {
+            dimensionWins.getNames().idOf(text(in.getInt()));
+        }
+        int[] offsets = new int[nameCount + 1];
+        for (int id = 0; id <= nameCount; id++) {
+            offsets[id] = in.getInt();
+        }
+        for (int id = 0; id < nameCount; id++) {
+            for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+                dimensionWins.add(id, in.getInt());
+            }
+        }
+        wins.put(dimension, dimensionWins);
+        intervals.put(dimension, new AwardIntervals(readIntervals(in), readIntervals(in)));
+    }
+
+    private List<AwardInterval> readIntervals(ByteBuffer in) {
+        int count = in.getInt();
+        List<AwardInterval> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new AwardInterval(text(in.getInt()), in.getInt(), in.getInt(), in.getInt()));
+        }
+        return result;
+    }
+
+    private String text(int index) {
+        if (index == NULL_TEXT) {
+            return null;
+        }
+        if (index < 0 || index >= textCount) {
+            throw new IndexOutOfBoundsException("Texto inexistente: " + index);
+        }
+        int start = buffer.getInt(HEADER_BYTES + index * 4);
+        int end = buffer.getInt(HEADER_BYTES + (index + 1) * 4);
+        byte[] bytes = new byte[end - start];
+        ByteBuffer in = buffer.duplicate();
+        in.position(textData + start);
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    /**
+     * Acumula os filmes em colunas, com os textos repetidos (estúdios, produtores) guardados uma única vez,
+     * e grava o arquivo de uma vez em {@link #write(Path, Map, Map)}.
+     */
+    static final class Writer {
+
+        private final long csvChecksum;
+        private final Map<String, Integer> textIds = new HashMap<>();
+        private final List<String> texts = new ArrayList<>();
+        private int[] years = new int[1024];
+        private long[] winners = new long[words(1024)];
+        private int[] titles = new int[1024];
+        private int[] studios = new int[1024];
+        private int[] producers = new int[1024];
+        private int movieCount;
+
+        Writer(long csvChecksum) {
+            this.csvChecksum = csvChecksum;
+        }
+
+        void add(MovieDTO movie) {
+            if (movieCount == years.length) {
+                int capacity = movieCount * 2;
+                years = Arrays.copyOf(years, capacity);
+                winners = Arrays.copyOf(winners, words(capacity));
+                titles = Arrays.copyOf(titles, capacity);
+                studios = Arrays.copyOf(studios, capacity);
+                producers = Arrays.copyOf(producers, capacity);
+            }
+            years[movieCount] = movie.getYear() == null ? NULL_YEAR : movie.getYear();
+            if (Boolean.TRUE.equals(movie.getWinner())) {
+                winners[movieCount >>> 6] |= 1L << movieCount;
+            }
+            titles[movieCount] = textId(movie.getTitle());
+            studios[movieCount] = textId(movie.getStudios());
+            producers[movieCount] = textId(movie.getProducers());
+            movieCount++;
+        }
+
+        /**
+         * Grava num arquivo temporário e o move sobre {@code file}, para que um restart nunca encontre
+         * um snapshot pela metade.
+         */
+        void write(Path file, Map<AwardDimension, ? extends WinYears> wins,
+                   Map<AwardDimension, AwardIntervals> intervals) throws IOException {
+            for (AwardDimension dimension : wins.keySet()) {
+                textId(dimension.name());
+                WinYears years = wins.get(dimension);
+                for (int id = 0; id < years.nameCount(); id++) {
+                    textId(years.nameOf(id));
+                }
+                intervals.get(dimension).getMin().forEach(interval -> textId(interval.getName()));
+                intervals.get(dimension).getMax().forEach(interval -> textId(interval.getName()));
+            }
+
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(csvChecksum);
+                out.writeInt(movieCount);
+                out.writeInt(texts.size());
+                out.writeInt(wins.size());
+                writeTexts(out);
+                writeInts(out, years);
+                for (int i = 0; i < words(movieCount); i++) {
+                    out.writeLong(winners[i]);
+                }
+                writeInts(out, titles);
+                writeInts(out, studios);
+                writeInts(out, producers);
+                for (AwardDimension dimension : wins.keySet()) {
+                    writeDimension(out, dimension, wins.get(dimension), intervals.get(dimension));
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        private void writeTexts(DataOutputStream out) throws IOException {
+            List<byte[]> encoded = new ArrayList<>(texts.size());
+            int offset = 0;
+            out.writeInt(offset);
+            for (String text : texts) {
+                byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+                encoded.add(bytes);
+                offset += bytes.length;
+                out.writeInt(offset);
+            }
+            for (byte[] bytes : encoded) {
+                out.write(bytes);
+            }
+        }
+
+        private void writeInts(DataOutputStream out, int[] values) throws IOException {
+            for (int i = 0; i < movieCount; i++) {
+                out.writeInt(values[i]);
+            }
+        }
+
+        private void writeDimension(DataOutputStream out, AwardDimension dimension, WinYears years,
+                                    AwardIntervals dimensionIntervals) throws IOException {
+            int nameCount = years.nameCount();
+            out.writeInt(textId(dimension.name()));
+            out.writeInt(nameCount);
+            for (int id = 0; id < nameCount; id++) {
+                out.writeInt(textId(years.nameOf(id)));
+            }
+            int offset = 0;
+            out.writeInt(offset);
+            for (int id = 0; id < nameCount; id++) {
+                offset += years.winCount(id);
+                out.writeInt(offset);
+            }
+            for (int id = 0; id < nameCount; id++) {
+                for (int i = 0; i < years.winCount(id); i++) {
+                    out.writeInt(years.year(id, i));
+                }
+            }
+            writeIntervals(out, dimensionIntervals.getMin());
+            writeIntervals(out, dimensionIntervals.getMax());
+        }
+
+        private void writeIntervals(DataOutputStream out, List<AwardInterval> values) throws IOException {
+            out.writeInt(values.size());
+            for (AwardInterval value : values) {
+                out.writeInt(textId(value.getName()));
+                out.writeInt(value.getInterval());
+                out.writeInt(value.getPreviousWin());
+                out.writeInt(value.getFollowingWin());
+            }
+        }
+
+        /**
+         * Os textos precisam estar todos registrados antes de a tabela de textos ser gravada.
+         */
+        private int textId(String text) {
+            if (text == null) {
+                return NULL_TEXT;
+            }
+            Integer id = textIds.get(text);
+            if (id == null) {
+                id = texts.size();
+                textIds.put(text, id);
+                texts.add(text);
+            }
+            return id;
+        }
+    }
+}
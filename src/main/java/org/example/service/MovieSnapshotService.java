@@ -0,0 +1,124 @@
+package org.example.service;
+
+import org.example.dto.MovieDTO;
+import org.example.repository.MovieRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Guarda e reabre o {@link MovieSnapshot} do CSV de {@code spring.csv.filepath}. O snapshot só é usado
+ * quando o checksum gravado nele é o do CSV atual; qualquer problema com o arquivo faz a carga voltar
+ * a ler o CSV, então falhas aqui só são registradas no log.
+ */
+@Service
+public class MovieSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(MovieSnapshotService.class);
+
+    private final CsvReaderService csvReaderService;
+    private final MovieRepository movieRepository;
+    private final AwardIntervalIndex awardIntervalIndex;
+
+    @Value("${spring.snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${spring.snapshot.path:}")
+    private String snapshotPath;
+
+    @Value("${spring.ingest.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * Checksum do CSV calculado em {@link #open()}, reaproveitado em {@link #save()} para o snapshot
+     * corresponder ao conteúdo que foi carregado.
+     */
+    private volatile Long csvChecksum;
+
+    @Autowired
+    public MovieSnapshotService(CsvReaderService csvReaderService, MovieRepository movieRepository,
+                                AwardIntervalIndex awardIntervalIndex) {
+        this.csvReaderService = csvReaderService;
+        this.movieRepository = movieRepository;
+        this.awardIntervalIndex = awardIntervalIndex;
+    }
+
+    /**
+     * Snapshot gerado a partir do CSV atual, se existir e estiver íntegro.
+     */
+    public Optional<MovieSnapshot> open() {
+        Optional<Path> csv = csvReaderService.getCsvFile();
+        Optional<Path> file = getSnapshotFile();
+        if (!csv.isPresent() || !file.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            csvChecksum = CsvReloadService.checksum(csv.get());
+            Optional<MovieSnapshot> snapshot = MovieSnapshot.open(file.get(), csvChecksum);
+            if (!snapshot.isPresent()) {
+                log.info("Snapshot {} ausente ou de outra versão do CSV", file.get());
+            }
+            return snapshot;
+        } catch (IOException e) {
+            log.warn("Snapshot {} ignorado: {}", file.get(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Grava os filmes do banco, em ordem de id, e os intervalos atuais do índice. Deve ser chamado logo
+     * após a carga do CSV, antes de a API aceitar alterações.
+     */
+    public void save() {
+        Optional<Path> csv = csvReaderService.getCsvFile();
+        Optional<Path> file = getSnapshotFile();
+        if (!csv.isPresent() || !file.isPresent()) {
+            return;
+        }
+        try {
+            long checksum = csvChecksum != null ? csvChecksum : CsvReloadService.checksum(csv.get());
+            MovieSnapshot.Writer writer = new MovieSnapshot.Writer(checksum);
+            long afterId = 0;
+            List<MovieDTO> page;
+            do {
+                page = movieRepository.findPageAfterId(afterId, PageRequest.of(0, batchSize));
+                for (MovieDTO movie : page) {
+                    writer.add(movie);
+                }
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == batchSize);
+
+            Map<AwardDimension, AwardIntervals> intervals = new EnumMap<>(AwardDimension.class);
+            for (AwardDimension dimension : AwardDimension.values()) {
+                intervals.put(dimension, awardIntervalIndex.getSnapshot(dimension).getIntervals());
+            }
+            writer.write(file.get(), awardIntervalIndex.wins(), intervals);
+            log.info("Snapshot gravado em {}", file.get());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Não foi possível gravar o snapshot {}: {}", file.get(), e.getMessage());
+        }
+    }
+
+    /**
+     * Arquivo de {@code spring.snapshot.path}; vazio se os snapshots estiverem desligados.
+     */
+    public Optional<Path> getSnapshotFile() {
+        if (!enabled || snapshotPath == null || snapshotPath.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(Paths.get(snapshotPath));
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.service;
+
+import org.example.dto.MovieDTO;
+import org.example.model.Movie;
+import org.example.repository.MovieProducerRepository;
+import org.example.repository.MovieRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Inclusão, alteração e remoção de filmes individuais. O índice de intervalos é atualizado
+ * de forma incremental somente depois que a transação é confirmada.
+ */
+@Service
+public class MovieUpdateService {
+
+    private final MovieRepository movieRepository;
+    private final MovieProducerRepository movieProducerRepository;
+    private final ProducerCatalogService producerCatalogService;
+    private final AwardIntervalIndex awardIntervalIndex;
+
+    @Autowired
+    public MovieUpdateService(MovieRepository movieRepository,
+                              MovieProducerRepository movieProducerRepository,
+                              ProducerCatalogService producerCatalogService,
+                              AwardIntervalIndex awardIntervalIndex) {
+        this.movieRepository = movieRepository;
+        this.movieProducerRepository = movieProducerRepository;
+        this.producerCatalogService = producerCatalogService;
+        this.awardIntervalIndex = awardIntervalIndex;
+    }
+
+    @Transactional
+    public MovieDTO create(MovieDTO request) {
+        Movie movie = movieRepository.save(new Movie(request.getYear(), request.getTitle(), request.getStudios(),
+            request.getProducers(), Boolean.TRUE.equals(request.getWinner())));
+        producerCatalogService.linkProducers(Collections.singletonList(movie));
+        afterCommit(() -> awardIntervalIndex.movieAdded(movie));
+        return MovieDTO.from(movie);
+    }
+
+    @Transactional
+    public Optional<MovieDTO> update(Long id, MovieDTO request) {
+        return movieRepository.findById(id).map(movie -> {
+            Movie before = copyOf(movie);
+            movie.setYear(request.getYear());
+            movie.setTitle(request.getTitle());
+            movie.setStudios(request.getStudios());
+            movie.setProducers(request.getProducers());
+            movie.setWinner(Boolean.TRUE.equals(request.getWinner()));
+
+            movieProducerRepository.deleteByMovieId(id);
+            producerCatalogService.linkProducers(Collections.singletonList(movie));
+            Movie after = copyOf(movie);
+            afterCommit(() -> awardIntervalIndex.movieChanged(before, after));
+            return MovieDTO.from(movie);
+        });
+    }
+
+    @Transactional
+    public boolean delete(Long id) {
+        Optional<Movie> movie = movieRepository.findById(id);
+        if (!movie.isPresent()) {
+            return false;
+        }
+        Movie removed = copyOf(movie.get());
+        movieProducerRepository.deleteByMovieId(id);
+        movieRepository.delete(movie.get());
+        afterCommit(() -> awardIntervalIndex.movieRemoved(removed));
+        return true;
+    }
+
+    private static Movie copyOf(Movie movie) {
+        Movie copy = new Movie(movie.getYear(), movie.getTitle(), movie.getStudios(), movie.getProducers(),
+            movie.getWinner());
+        copy.setId(movie.getId());
+        return copy;
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
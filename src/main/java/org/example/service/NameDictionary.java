@@ -0,0 +1,114 @@
+package org.example.service;
+
+import java.util.Arrays;
+
+/**
+ * Dicionário de nomes (produtores ou estúdios): associa cada nome a um id inteiro sequencial (0, 1, 2, ...).
+ * Os cálculos de intervalo trabalham só com os ids; o nome volta a ser usado apenas na montagem dos resultados.
+ * Nomes podem ser consultados direto de um trecho de outra string, sem criar {@code String} quando já existem.
+ * Não é thread-safe.
+ */
+public final class NameDictionary {
+
+    private static final int EMPTY = -1;
+
+    private String[] names = new String[16];
+    private int[] hashes = new int[16];
+    private int[] slots = newSlots(32);
+    private int size;
+
+    public int idOf(String name) {
+        return idOf(name, 0, name.length());
+    }
+
+    /**
+     * Id do nome contido em {@code source[start, end)}, incluindo-o no dicionário se ainda não existir.
+     */
+    public int idOf(String source, int start, int end) {
+        int hash = hash(source, start, end);
+        int slot = slotOf(source, start, end, hash);
+        if (slots[slot] != EMPTY) {
+            return slots[slot];
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        int id = size++;
+        names[id] = source.substring(start, end);
+        hashes[id] = hash;
+        slots[slot] = id;
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    /**
+     * @return o id do nome, ou -1 se ele não estiver no dicionário
+     */
+    public int find(String name) {
+        return slots[slotOf(name, 0, name.length(), hash(name, 0, name.length()))];
+    }
+
+    public String nameOf(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Nome inexistente: " + id);
+        }
+        return names[id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Array com os nomes dos ids {@code [0, size())}. O dicionário só acrescenta nomes, e o array é trocado
+     * por uma cópia quando cresce, então essas posições nunca mudam: as visões imutáveis de {@link WinYears}
+     * guardam o array sem copiá-lo.
+     */
+    String[] names() {
+        return names;
+    }
+
+    private int slotOf(String source, int start, int end, int hash) {
+        int mask = slots.length - 1;
+        int length = end - start;
+        int slot = hash & mask;
+        while (true) {
+            int id = slots[slot];
+            if (id == EMPTY
+                || (hashes[id] == hash && names[id].length() == length && names[id].regionMatches(0, source, start, length))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash() {
+        int[] rehashed = newSlots(slots.length * 2);
+        int mask = rehashed.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (rehashed[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            rehashed[slot] = id;
+        }
+        slots = rehashed;
+    }
+
+    private static int hash(String source, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int[] newSlots(int capacity) {
+        int[] slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        return slots;
+    }
+}
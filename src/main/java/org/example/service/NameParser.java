@@ -0,0 +1,123 @@
+package org.example.service;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Separa uma coluna de nomes do CSV (produtores ou estúdios) nos nomes individuais.
+ * A string é percorrida uma única vez, sem expressões regulares; os nomes são entregues como
+ * trechos (início/fim) da string original e só viram {@code String} quando necessário.
+ */
+public final class NameParser {
+
+    private static final String[] EMPTY = new String[0];
+    private static final String AND = " and ";
+    private static final String E = " e ";
+
+    /**
+     * Recebe cada nome encontrado como o trecho {@code [start, end)} da string original, já sem espaços nas pontas.
+     */
+    @FunctionalInterface
+    public interface NameSpanConsumer {
+        void accept(String source, int start, int end);
+    }
+
+    private NameParser() {
+    }
+
+    /**
+     * Analisa a coluna de nomes e retorna um array com os nomes individuais.
+     * Trata separadores como ", ", " and ", " e ".
+     */
+    public static String[] parse(String column) {
+        if (column == null) {
+            return EMPTY;
+        }
+        NameCollector names = new NameCollector();
+        forEachName(column, names);
+        return names.toArray();
+    }
+
+    /**
+     * Nomes distintos da coluna, na ordem em que aparecem: um nome repetido no mesmo filme conta uma vez,
+     * como na tabela movie_producer.
+     */
+    public static Set<String> parseDistinct(String column) {
+        return new LinkedHashSet<>(Arrays.asList(parse(column)));
+    }
+
+    /**
+     * Percorre os nomes da coluna de nomes sem criar objetos, devolvendo quantos foram encontrados.
+     * Quando " e " encosta em um " and " seguinte, prevalece o " and ", como na substituição original.
+     */
+    public static int forEachName(String column, NameSpanConsumer consumer) {
+        if (column == null) {
+            return 0;
+        }
+        int length = column.length();
+        int count = 0;
+        int start = 0;
+        int i = 0;
+        while (i < length) {
+            int separator = separatorLength(column, i);
+            if (separator == 0) {
+                i++;
+                continue;
+            }
+            count += emit(column, start, i, consumer);
+            i += separator;
+            start = i;
+        }
+        return count + emit(column, start, length, consumer);
+    }
+
+    private static int separatorLength(String value, int index) {
+        char c = value.charAt(index);
+        if (c == ',') {
+            return 1;
+        }
+        if (c != ' ') {
+            return 0;
+        }
+        if (value.startsWith(AND, index)) {
+            return AND.length();
+        }
+        if (value.startsWith(E, index) && !value.startsWith(AND, index + E.length() - 1)) {
+            return E.length();
+        }
+        return 0;
+    }
+
+    private static int emit(String value, int start, int end, NameSpanConsumer consumer) {
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return 0;
+        }
+        consumer.accept(value, start, end);
+        return 1;
+    }
+
+    private static final class NameCollector implements NameSpanConsumer {
+
+        private String[] names = EMPTY;
+        private int size;
+
+        @Override
+        public void accept(String source, int start, int end) {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, Math.max(4, size * 2));
+            }
+            names[size++] = source.substring(start, end);
+        }
+
+        String[] toArray() {
+            return size == names.length ? names : Arrays.copyOf(names, size);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.service;
+
+import java.util.Arrays;
+
+/**
+ * Anos de vitória por nome (produtor ou estúdio), indexados pelo id do {@link NameDictionary}, sem boxing.
+ * As vitórias são acumuladas como pares (nome, ano) em arrays de int; na primeira leitura
+ * são reorganizadas no formato CSR: {@code offsets[id]..offsets[id + 1]} delimita, em {@code years},
+ * os anos do nome, já em ordem crescente.
+ */
+public final class NameWins implements WinYears {
+
+    private static final int[] NO_YEARS = new int[0];
+
+    private final NameDictionary names;
+
+    private int[] pairNames = new int[64];
+    private int[] pairYears = new int[64];
+    private int pairCount;
+    private int nameCount;
+
+    private int[] offsets = new int[1];
+    private int[] years = NO_YEARS;
+    private boolean indexed = true;
+
+    public NameWins() {
+        this(new NameDictionary());
+    }
+
+    public NameWins(NameDictionary names) {
+        this.names = names;
+    }
+
+    public NameDictionary getNames() {
+        return names;
+    }
+
+    @Override
+    public String nameOf(int nameId) {
+        return names.nameOf(nameId);
+    }
+
+    public void add(String name, int year) {
+        add(names.idOf(name), year);
+    }
+
+    public void add(int nameId, int year) {
+        if (pairCount == pairNames.length) {
+            pairNames = Arrays.copyOf(pairNames, pairCount * 2);
+            pairYears = Arrays.copyOf(pairYears, pairCount * 2);
+        }
+        pairNames[pairCount] = nameId;
+        pairYears[pairCount] = year;
+        pairCount++;
+        nameCount = Math.max(nameCount, nameId + 1);
+        indexed = false;
+    }
+
+    /**
+     * Monta o índice CSR com os anos ordenados. Chamado automaticamente na primeira leitura após inclusões.
+     */
+    public void sortYears() {
+        if (indexed) {
+            return;
+        }
+        int[] start = new int[nameCount + 1];
+        for (int i = 0; i < pairCount; i++) {
+            start[pairNames[i] + 1]++;
+        }
+        for (int id = 0; id < nameCount; id++) {
+            start[id + 1] += start[id];
+        }
+
+        int[] sorted = new int[pairCount];
+        int[] cursor = Arrays.copyOf(start, nameCount);
+        for (int i = 0; i < pairCount; i++) {
+            sorted[cursor[pairNames[i]]++] = pairYears[i];
+        }
+        for (int id = 0; id < nameCount; id++) {
+            if (start[id + 1] - start[id] > 1) {
+                Arrays.sort(sorted, start[id], start[id + 1]);
+            }
+        }
+
+        offsets = start;
+        years = sorted;
+        indexed = true;
+    }
+
+    /**
+     * Quantidade de ids com anos registrados; ids acima deste valor não têm vitórias.
+     */
+    @Override
+    public int nameCount() {
+        return nameCount;
+    }
+
+    @Override
+    public int winCount(int nameId) {
+        sortYears();
+        return nameId < nameCount ? offsets[nameId + 1] - offsets[nameId] : 0;
+    }
+
+    @Override
+    public int year(int nameId, int index) {
+        sortYears();
+        return years[offsets[nameId] + index];
+    }
+
+    /**
+     * Os arrays do índice CSR são trocados, e não alterados, a cada nova ordenação; a visão só guarda as referências.
+     */
+    @Override
+    public WinYears frozen() {
+        sortYears();
+        return new Frozen(names.names(), nameCount, offsets, years);
+    }
+
+    /**
+     * Cópia dos anos do nome, em ordem crescente.
+     */
+    public int[] years(int nameId) {
+        sortYears();
+        if (nameId >= nameCount) {
+            return NO_YEARS;
+        }
+        return Arrays.copyOfRange(years, offsets[nameId], offsets[nameId + 1]);
+    }
+
+    private static final class Frozen implements WinYears {
+        private final String[] names;
+        private final int nameCount;
+        private final int[] offsets;
+        private final int[] years;
+
+        private Frozen(String[] names, int nameCount, int[] offsets, int[] years) {
+            this.names = names;
+            this.nameCount = nameCount;
+            this.offsets = offsets;
+            this.years = years;
+        }
+
+        @Override
+        public String nameOf(int nameId) {
+            return names[nameId];
+        }
+
+        @Override
+        public int nameCount() {
+            return nameCount;
+        }
+
+        @Override
+        public int winCount(int nameId) {
+            return nameId < nameCount ? offsets[nameId + 1] - offsets[nameId] : 0;
+        }
+
+        @Override
+        public int year(int nameId, int index) {
+            return years[offsets[nameId] + index];
+        }
+
+        @Override
+        public WinYears frozen() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package org.example.service;
+
+import org.example.dto.IngestResultDTO;
+import org.example.dto.RejectedLineDTO;
+import org.example.model.Movie;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+/**
+ * Carga do CSV em pipeline para arquivos grandes: a thread chamadora divide o arquivo mapeado em
+ * trechos alinhados a quebras de linha, um pool de parsers transforma cada trecho em lotes de filmes
+ * e uma fila limitada alimenta as threads que gravam os lotes. Tanto a quantidade de trechos em
+ * processamento quanto a fila de lotes são limitadas, então a leitura espera quando a gravação atrasa.
+ */
+@Service
+public class ParallelCsvIngestService {
+
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
+    private static final List<Movie> END_OF_INPUT = Collections.emptyList();
+
+    private final MovieBatchWriter movieBatchWriter;
+
+    @Value("${spring.ingest.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${spring.ingest.parser-threads:0}")
+    private int parserThreads;
+
+    @Value("${spring.ingest.writer-threads:2}")
+    private int writerThreads;
+
+    @Value("${spring.ingest.chunk-size:8388608}")
+    private int chunkSize;
+
+    @Autowired
+    public ParallelCsvIngestService(MovieBatchWriter movieBatchWriter) {
+        this.movieBatchWriter = movieBatchWriter;
+    }
+
+    public IngestResultDTO ingest(Path file) {
+        return ingest(file, rows -> { });
+    }
+
+    /**
+     * Como {@link #ingest(Path)}, avisando {@code progress} com a quantidade de filmes de cada lote gravado.
+     */
+    public IngestResultDTO ingest(Path file, LongConsumer progress) {
+        long start = System.nanoTime();
+        int parsers = parserThreads > 0 ? parserThreads : Runtime.getRuntime().availableProcessors();
+        BlockingQueue<List<Movie>> batches = new ArrayBlockingQueue<>(writerThreads * 2);
+        Semaphore chunksInFlight = new Semaphore(parsers * 2);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong written = new AtomicLong();
+        ExecutorService parserPool = Executors.newFixedThreadPool(parsers, threadFactory("csv-parser"));
+        ExecutorService writerPool = Executors.newFixedThreadPool(writerThreads, threadFactory("csv-writer"));
+
+        try {
+            List<Future<?>> writers = startWriters(writerPool, batches, written, progress, failure);
+
+            List<Future<ChunkResult>> chunks = new ArrayList<>();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                long position = 0;
+                while (position < size && failure.get() == null) {
+                    ByteBuffer chunk = nextChunk(channel, position, size);
+                    position += chunk.limit();
+                    int index = chunks.size();
+                    chunksInFlight.acquire();
+                    chunks.add(parserPool.submit(() -> {
+                        try {
+                            return parseChunk(index, chunk, batches);
+                        } finally {
+                            chunksInFlight.release();
+                        }
+                    }));
+                }
+            }
+
+            List<ChunkResult> results = new ArrayList<>(chunks.size());
+            for (Future<ChunkResult> chunk : chunks) {
+                results.add(chunk.get());
+            }
+            finishWriters(batches, writers, failure);
+            return report(results, written.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao ler arquivo CSV: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Carga do CSV interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erro ao processar trecho do CSV: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            parserPool.shutdownNow();
+            writerPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Carga a partir de um stream, como o corpo de uma requisição. A thread chamadora faz o parsing em blocos
+     * e entrega os lotes à mesma fila limitada das threads de gravação; quando a gravação atrasa, a leitura
+     * para de consumir o stream, sem acumular o conteúdo em memória.
+     * Lotes já gravados permanecem se a carga falhar no meio.
+     */
+    public IngestResultDTO ingest(InputStream input) {
+        long start = System.nanoTime();
+        BlockingQueue<List<Movie>> batches = new ArrayBlockingQueue<>(writerThreads * 2);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong written = new AtomicLong();
+        ExecutorService writerPool = Executors.newFixedThreadPool(writerThreads, threadFactory("csv-writer"));
+
+        try {
+            List<Future<?>> writers = startWriters(writerPool, batches, written, rows -> { }, failure);
+
+            List<RejectedLineDTO> rejections = new ArrayList<>();
+            AtomicLong rejected = new AtomicLong();
+            BatchingConsumer<Movie> batcher = new BatchingConsumer<>(batchSize, batch -> {
+                if (failure.get() != null) {
+                    throw new IllegalStateException("Erro ao gravar lote do CSV: " + failure.get().getMessage(), failure.get());
+                }
+                enqueue(batches, batch);
+            });
+            MovieCsvParser parser = new MovieCsvParser(batcher, (line, reason) -> {
+                if (rejected.incrementAndGet() <= MAX_REPORTED_REJECTIONS) {
+                    rejections.add(new RejectedLineDTO(line, reason));
+                }
+            }, true);
+            parser.parse(input);
+            batcher.flush();
+
+            finishWriters(batches, writers, failure);
+            return new IngestResultDTO(written.get(), rejected.get(), rejections,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler CSV: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Carga do CSV interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erro ao gravar lote do CSV: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            writerPool.shutdownNow();
+        }
+    }
+
+    private List<Future<?>> startWriters(ExecutorService writerPool, BlockingQueue<List<Movie>> batches,
+                                         AtomicLong written, LongConsumer progress,
+                                         AtomicReference<Throwable> failure) {
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < writerThreads; i++) {
+            writers.add(writerPool.submit(() -> {
+                writeBatches(batches, written, progress, failure);
+                return null;
+            }));
+        }
+        return writers;
+    }
+
+    /**
+     * Sinaliza o fim da entrada a cada thread de gravação e espera a fila esvaziar.
+     */
+    private void finishWriters(BlockingQueue<List<Movie>> batches, List<Future<?>> writers,
+                               AtomicReference<Throwable> failure) throws InterruptedException, ExecutionException {
+        for (int i = 0; i < writerThreads; i++) {
+            batches.put(END_OF_INPUT);
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Erro ao gravar lote do CSV: " + failure.get().getMessage(), failure.get());
+        }
+    }
+
+    /**
+     * Mapeia o próximo trecho terminando logo após uma quebra de linha (ou no fim do arquivo).
+     */
+    private ByteBuffer nextChunk(FileChannel channel, long position, long size) throws IOException {
+        long window = chunkSize;
+        while (true) {
+            long length = Math.min(window, size - position);
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            if (position + length == size) {
+                return buffer;
+            }
+            for (int i = (int) length - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    buffer.limit(i + 1);
+                    return buffer;
+                }
+            }
+            window = Math.min(window * 2, Integer.MAX_VALUE);
+        }
+    }
+
+    private ChunkResult parseChunk(int index, ByteBuffer chunk, BlockingQueue<List<Movie>> batches) {
+        List<RejectedLineDTO> rejections = new ArrayList<>();
+        AtomicLong rejected = new AtomicLong();
+        BatchingConsumer<Movie> batcher = new BatchingConsumer<>(batchSize, batch -> enqueue(batches, batch));
+        MovieCsvParser parser = new MovieCsvParser(batcher, (line, reason) -> {
+            if (rejected.incrementAndGet() <= MAX_REPORTED_REJECTIONS) {
+                rejections.add(new RejectedLineDTO(line, reason));
+            }
+        }, index == 0);
+        parser.parseLines(chunk, true);
+        batcher.flush();
+        return new ChunkResult(parser.getLines(), rejected.get(), rejections);
+    }
+
+    private void writeBatches(BlockingQueue<List<Movie>> batches, AtomicLong written, LongConsumer progress,
+                              AtomicReference<Throwable> failure) throws InterruptedException {
+        while (true) {
+            List<Movie> batch = batches.take();
+            if (batch == END_OF_INPUT) {
+                return;
+            }
+            if (failure.get() != null) {
+                continue;
+            }
+            try {
+                movieBatchWriter.write(batch);
+                written.addAndGet(batch.size());
+                progress.accept(batch.size());
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    /**
+     * Converte a numeração de cada trecho em números de linha do arquivo, mantendo a ordem do arquivo.
+     */
+    private IngestResultDTO report(List<ChunkResult> results, long rows, long elapsedMillis) {
+        List<RejectedLineDTO> rejections = new ArrayList<>();
+        long rejected = 0;
+        long firstLine = 0;
+        for (ChunkResult result : results) {
+            rejected += result.rejected;
+            for (RejectedLineDTO rejection : result.rejections) {
+                if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                    rejections.add(new RejectedLineDTO(firstLine + rejection.getLine(), rejection.getReason()));
+                }
+            }
+            firstLine += result.lines;
+        }
+        return new IngestResultDTO(rows, rejected, rejections, elapsedMillis);
+    }
+
+    private static void enqueue(BlockingQueue<List<Movie>> batches, List<Movie> batch) {
+        try {
+            batches.put(batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Carga do CSV interrompida", e);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class ChunkResult {
+        private final long lines;
+        private final long rejected;
+        private final List<RejectedLineDTO> rejections;
+
+        private ChunkResult(long lines, long rejected, List<RejectedLineDTO> rejections) {
+            this.lines = lines;
+            this.rejected = rejected;
+            this.rejections = rejections;
+        }
+    }
+}
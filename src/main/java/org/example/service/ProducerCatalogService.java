@@ -0,0 +1,99 @@
+package org.example.service;
+
+import org.example.model.Movie;
+import org.example.model.MovieProducer;
+import org.example.model.Producer;
+import org.example.repository.MovieProducerRepository;
+import org.example.repository.ProducerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.*;
+
+/**
+ * Normaliza a coluna de produtores dos filmes na tabela de produtores e na tabela de associação.
+ */
+@Service
+public class ProducerCatalogService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ProducerRepository producerRepository;
+    private final MovieProducerRepository movieProducerRepository;
+    private final TransactionTemplate producerCreation;
+    private final Object producerCreationLock = new Object();
+
+    @Autowired
+    public ProducerCatalogService(ProducerRepository producerRepository,
+                                  MovieProducerRepository movieProducerRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.producerRepository = producerRepository;
+        this.movieProducerRepository = movieProducerRepository;
+        this.producerCreation = new TransactionTemplate(transactionManager);
+        this.producerCreation.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Cria os produtores ainda inexistentes e associa cada filme (já persistido) aos seus produtores.
+     * Apenas os produtores citados nos filmes recebidos são consultados, para que o custo acompanhe o lote.
+     */
+    @Transactional
+    public void linkProducers(List<Movie> movies) {
+        List<Set<String>> namesByMovie = new ArrayList<>(movies.size());
+        Set<String> allNames = new HashSet<>();
+        for (Movie movie : movies) {
+            Set<String> names = NameParser.parseDistinct(movie.getProducers());
+            namesByMovie.add(names);
+            allNames.addAll(names);
+        }
+
+        Map<String, Long> producerIds = findProducerIds(allNames);
+        if (producerIds.size() < allNames.size()) {
+            producerIds = createMissingProducers(allNames);
+        }
+
+        List<MovieProducer> links = new ArrayList<>();
+        for (int i = 0; i < movies.size(); i++) {
+            for (String name : namesByMovie.get(i)) {
+                Producer producer = entityManager.getReference(Producer.class, producerIds.get(name));
+                links.add(new MovieProducer(movies.get(i), producer));
+            }
+        }
+        movieProducerRepository.saveAll(links);
+    }
+
+    private Map<String, Long> findProducerIds(Set<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (!names.isEmpty()) {
+            for (Producer producer : producerRepository.findByNameIn(names)) {
+                ids.put(producer.getName(), producer.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Produtores novos são gravados em transação própria, serializada e confirmada antes do uso,
+     * para que lotes gravados em paralelo nunca tentem inserir o mesmo nome.
+     */
+    private Map<String, Long> createMissingProducers(Set<String> names) {
+        synchronized (producerCreationLock) {
+            return producerCreation.execute(status -> {
+                Map<String, Long> ids = findProducerIds(names);
+                for (String name : names) {
+                    if (!ids.containsKey(name)) {
+                        ids.put(name, producerRepository.save(new Producer(name)).getId());
+                    }
+                }
+                return ids;
+            });
+        }
+    }
+}
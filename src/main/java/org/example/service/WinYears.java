@@ -0,0 +1,24 @@
+package org.example.service;
+
+/**
+ * Leitura dos anos de vitória, em ordem crescente, de cada id do dicionário de nomes.
+ */
+interface WinYears {
+
+    String nameOf(int nameId);
+
+    /**
+     * Limite superior (exclusivo) dos ids com vitórias.
+     */
+    int nameCount();
+
+    int winCount(int nameId);
+
+    int year(int nameId, int index);
+
+    /**
+     * Os anos e nomes atuais numa visão que não muda com as alterações seguintes. Depois de publicada,
+     * pode ser lida por outras threads sem bloqueio, enquanto a estrutura original continua sendo alterada.
+     */
+    WinYears frozen();
+}
@@ -1,22 +1,50 @@
 package org.example;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.dto.IngestResultDTO;
 import org.example.model.Movie;
-import org.example.repository.MovieRepository;
+import org.example.service.AwardDimension;
+import org.example.service.AwardIntervalIndex;
+import org.example.service.AwardIntervals;
 import org.example.service.CsvReaderService;
+import org.example.service.CsvReloadService;
+import org.example.service.DataLoadStatus;
+import org.example.service.MovieBatchWriter;
+import org.example.service.MovieSnapshot;
+import org.example.service.MovieSnapshotService;
+import org.example.service.NameWins;
+import org.example.service.ParallelCsvIngestService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.InOrder;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,7 +54,31 @@ class DataLoaderTest {
     private CsvReaderService csvReaderService;
 
     @Mock
-    private MovieRepository movieRepository;
+    private MovieBatchWriter movieBatchWriter;
+
+    @Mock
+    private ParallelCsvIngestService parallelCsvIngestService;
+
+    @Mock
+    private AwardIntervalIndex awardIntervalIndex;
+
+    @Mock
+    private CsvReloadService csvReloadService;
+
+    @Mock
+    private MovieSnapshotService movieSnapshotService;
+
+    @Mock
+    private MovieSnapshot snapshot;
+
+    @Spy
+    private DataLoadStatus dataLoadStatus = new DataLoadStatus();
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path tempDir;
 
     @InjectMocks
     private DataLoader dataLoader;
@@ -35,6 +87,9 @@ class DataLoaderTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(dataLoader, "batchSize", 1000);
+        ReflectionTestUtils.setField(dataLoader, "parallelThreshold", 1024L);
+
         testMovies = new ArrayList<>();
         testMovies.add(new Movie(1990, "Dances with Wolves", "Orion", "Kevin Costner", true));
         testMovies.add(new Movie(1991, "The Silence of the Lambs", "Orion", "Scott Ferguson", false));
@@ -43,91 +98,88 @@ class DataLoaderTest {
 
     @Test
     void testRun_LoadsMoviesSuccessfully() throws Exception {
-        when(csvReaderService.readMoviesFromCsv()).thenReturn(testMovies);
-
-        dataLoader.run();
-
-        verify(csvReaderService, times(1)).readMoviesFromCsv();
-        verify(movieRepository, times(1)).saveAll(testMovies);
-    }
-
-    @Test
-    void testRun_CallsCsvReaderService() throws Exception {
-        when(csvReaderService.readMoviesFromCsv()).thenReturn(testMovies);
-
-        dataLoader.run();
-
-        verify(csvReaderService).readMoviesFromCsv();
-    }
+        givenCsvWith(testMovies);
 
-    @Test
-    void testRun_CallsRepositorySaveAll() throws Exception {
-        when(csvReaderService.readMoviesFromCsv()).thenReturn(testMovies);
-
-        dataLoader.run();
+        dataLoader.load();
 
-        verify(movieRepository).saveAll(testMovies);
+        verify(csvReaderService, times(1)).readMovies(any());
+        verify(movieBatchWriter, times(1)).write(testMovies);
     }
 
     @Test
     void testRun_WithEmptyMovieList() throws Exception {
-        when(csvReaderService.readMoviesFromCsv()).thenReturn(new ArrayList<>());
+        givenCsvWith(new ArrayList<>());
 
-        dataLoader.run();
+        dataLoader.load();
 
-        verify(csvReaderService, times(1)).readMoviesFromCsv();
-        verify(movieRepository, times(1)).saveAll(new ArrayList<>());
+        verify(csvReaderService, times(1)).readMovies(any());
+        verify(movieBatchWriter, never()).write(any());
+        verify(awardIntervalIndex).rebuild();
     }
 
     @Test
     void testRun_WithSingleMovie() throws Exception {
         List<Movie> singleMovie = Arrays.asList(testMovies.get(0));
-        when(csvReaderService.readMoviesFromCsv()).thenReturn(singleMovie);
+        givenCsvWith(singleMovie);
 
-        dataLoader.run();
+        dataLoader.load();
 
-        verify(csvReaderService, times(1)).readMoviesFromCsv();
-        verify(movieRepository, times(1)).saveAll(singleMovie);
+        verify(movieBatchWriter, times(1)).write(singleMovie);
     }
 
     @Test
-    void testRun_SavesCorrectNumberOfMovies() throws Exception {
-        when(csvReaderService.readMoviesFromCsv()).thenReturn(testMovies);
+    void testRun_SplitsMoviesIntoBatches() throws Exception {
+        ReflectionTestUtils.setField(dataLoader, "batchSize", 2);
+        givenCsvWith(testMovies);
 
-        dataLoader.run();
+        dataLoader.load();
 
-        verify(movieRepository).saveAll(testMovies);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Movie>> batches = ArgumentCaptor.forClass(List.class);
+        verify(movieBatchWriter, times(2)).write(batches.capture());
+        assertEquals(testMovies.subList(0, 2), batches.getAllValues().get(0));
+        assertEquals(testMovies.subList(2, 3), batches.getAllValues().get(1));
     }
 
     @Test
-    void testRun_CsvReaderIsCalledBeforeSave() throws Exception {
-        when(csvReaderService.readMoviesFromCsv()).thenReturn(testMovies);
+    void testRun_RebuildsIntervalIndexAfterWrite() throws Exception {
+        givenCsvWith(testMovies);
 
-        dataLoader.run();
+        dataLoader.load();
 
-        InOrder inOrder = inOrder(csvReaderService, movieRepository);
-        inOrder.verify(csvReaderService).readMoviesFromCsv();
-        inOrder.verify(movieRepository).saveAll(testMovies);
+        InOrder inOrder = inOrder(csvReaderService, movieBatchWriter, awardIntervalIndex, csvReloadService);
+        inOrder.verify(csvReaderService).readMovies(any());
+        inOrder.verify(movieBatchWriter).write(testMovies);
+        inOrder.verify(awardIntervalIndex).rebuild();
+        inOrder.verify(csvReloadService).watch();
     }
 
     @Test
-    void testRun_SleepsBeforeLoading() throws Exception {
-        when(csvReaderService.readMoviesFromCsv()).thenReturn(testMovies);
-        long startTime = System.currentTimeMillis();
-
-        dataLoader.run();
-
-        long elapsedTime = System.currentTimeMillis() - startTime;
-        assertTrue(elapsedTime >= 400, "Should sleep for at least 500ms minus some tolerance");
+    void testRun_UsesParallelPipelineForLargeFiles() throws Exception {
+        Path file = tempDir.resolve("movies.csv");
+        Files.write(file, new byte[2048]);
+        when(csvReaderService.getCsvFile()).thenReturn(Optional.of(file));
+        when(parallelCsvIngestService.ingest(eq(file), any()))
+            .thenReturn(new IngestResultDTO(10L, 0L, new ArrayList<>(), 5L));
+
+        dataLoader.load();
+
+        verify(parallelCsvIngestService).ingest(eq(file), any());
+        verify(csvReaderService, never()).readMovies(any());
+        verify(awardIntervalIndex).rebuild();
     }
 
     @Test
-    void testRun_RepositoryReceivesAllMovies() throws Exception {
-        when(csvReaderService.readMoviesFromCsv()).thenReturn(testMovies);
+    void testRun_StreamsSmallFilesSequentially() throws Exception {
+        Path file = tempDir.resolve("movies.csv");
+        Files.write(file, new byte[16]);
+        when(csvReaderService.getCsvFile()).thenReturn(Optional.of(file));
+        givenCsvWith(testMovies);
 
-        dataLoader.run();
+        dataLoader.load();
 
-        verify(movieRepository).saveAll(testMovies);
+        verify(parallelCsvIngestService, never()).ingest(any(Path.class), any());
+        verify(movieBatchWriter).write(testMovies);
     }
 
     @Test
@@ -140,23 +192,175 @@ class DataLoaderTest {
     void testRun_ImplementsCommandLineRunner() throws Exception {
         assertTrue(dataLoader instanceof CommandLineRunner);
         
-        when(csvReaderService.readMoviesFromCsv()).thenReturn(testMovies);
+        givenCsvWith(testMovies);
         
         assertDoesNotThrow(() -> dataLoader.run(new String[]{}));
-        
-        verify(csvReaderService, times(1)).readMoviesFromCsv();
+
+        assertTrue(dataLoadStatus.awaitReady(Duration.ofSeconds(10)));
+        verify(csvReaderService, times(1)).readMovies(any());
     }
 
     @Test
     void testRun_LargeMovieList() throws Exception {
         List<Movie> largeMovieList = new ArrayList<>();
-        for (int i = 0; i < 1000; i++) {
+        for (int i = 0; i < 2500; i++) {
             largeMovieList.add(new Movie(1990 + i, "Movie " + i, "Studio " + i, "Producer " + i, true));
         }
-        when(csvReaderService.readMoviesFromCsv()).thenReturn(largeMovieList);
+        givenCsvWith(largeMovieList);
+
+        dataLoader.load();
+
+        verify(movieBatchWriter, times(3)).write(any());
+    }
+
+    @Test
+    void testRun_RecordsLoadedMoviesAndStageTimings() throws Exception {
+        givenCsvWith(testMovies);
+
+        dataLoader.load();
+
+        assertEquals(3.0, meterRegistry.get("movies.loaded").counter().count());
+        assertEquals(1, meterRegistry.get("dataloader.stage").tag("stage", "ingest").tag("mode", "sequential")
+            .timer().count());
+        assertEquals(1, meterRegistry.get("dataloader.stage").tag("stage", "index").timer().count());
+    }
+
+    @Test
+    void testRun_RecordsParallelIngestStage() throws Exception {
+        Path file = tempDir.resolve("movies.csv");
+        Files.write(file, new byte[2048]);
+        when(csvReaderService.getCsvFile()).thenReturn(Optional.of(file));
+        when(parallelCsvIngestService.ingest(eq(file), any()))
+            .thenReturn(new IngestResultDTO(10L, 0L, new ArrayList<>(), 5L));
+
+        dataLoader.load();
+
+        assertEquals(10.0, meterRegistry.get("movies.loaded").counter().count());
+        assertEquals(1, meterRegistry.get("dataloader.stage").tag("stage", "ingest").tag("mode", "parallel")
+            .timer().count());
+    }
+
+    @Test
+    void testRun_DoesNotRebuildIndexWhenReadFails() throws Exception {
+        when(csvReaderService.readMovies(any())).thenThrow(new RuntimeException("Erro ao ler arquivo CSV"));
+
+        assertDoesNotThrow(() -> dataLoader.load());
+
+        verify(awardIntervalIndex, never()).rebuild();
+        verify(csvReloadService, never()).watch();
+        assertEquals(DataLoadStatus.State.FAILED, dataLoadStatus.getState());
+        assertEquals("Erro ao ler arquivo CSV", dataLoadStatus.getError());
+    }
+
+    @Test
+    void testRun_MarksReadyWithRowCountAfterIndexRebuild() throws Exception {
+        ReflectionTestUtils.setField(dataLoader, "batchSize", 2);
+        givenCsvWith(testMovies);
+        doAnswer(invocation -> {
+            assertFalse(dataLoadStatus.isReady());
+            return null;
+        }).when(awardIntervalIndex).rebuild();
+
+        dataLoader.load();
+
+        assertTrue(dataLoadStatus.isReady());
+        assertEquals(3, dataLoadStatus.getRows());
+    }
+
+    @Test
+    void testRun_ReportsParallelProgress() throws Exception {
+        Path file = tempDir.resolve("movies.csv");
+        Files.write(file, new byte[2048]);
+        when(csvReaderService.getCsvFile()).thenReturn(Optional.of(file));
+        when(parallelCsvIngestService.ingest(eq(file), any())).thenAnswer(invocation -> {
+            LongConsumer progress = invocation.getArgument(1);
+            progress.accept(6);
+            progress.accept(4);
+            return new IngestResultDTO(10L, 0L, new ArrayList<>(), 5L);
+        });
+
+        dataLoader.load();
+
+        assertEquals(10, dataLoadStatus.getRows());
+        assertTrue(dataLoadStatus.isReady());
+    }
+
+    @Test
+    void testRun_StaysReadyWhenWatchFails() throws Exception {
+        givenCsvWith(testMovies);
+        doThrow(new IOException("sem permissão")).when(csvReloadService).watch();
+
+        dataLoader.load();
+
+        assertTrue(dataLoadStatus.isReady());
+    }
+
+    @Test
+    void testRun_ReturnsBeforeLoadingFinishes() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(csvReaderService.readMovies(any())).thenAnswer(invocation -> {
+            release.await();
+            return 0L;
+        });
 
         dataLoader.run();
 
-        verify(movieRepository).saveAll(largeMovieList);
+        assertEquals(DataLoadStatus.State.LOADING, dataLoadStatus.getState());
+        release.countDown();
+        assertTrue(dataLoadStatus.awaitReady(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void testRun_SavesSnapshotAfterCsvLoad() throws Exception {
+        givenCsvWith(testMovies);
+
+        dataLoader.load();
+
+        InOrder inOrder = inOrder(movieBatchWriter, awardIntervalIndex, movieSnapshotService);
+        inOrder.verify(movieBatchWriter).write(testMovies);
+        inOrder.verify(awardIntervalIndex).rebuild();
+        inOrder.verify(movieSnapshotService).save();
+    }
+
+    @Test
+    void testRun_RestoresFromSnapshotWithoutReadingCsv() throws Exception {
+        ReflectionTestUtils.setField(dataLoader, "batchSize", 2);
+        Map<AwardDimension, NameWins> wins = new EnumMap<>(AwardDimension.class);
+        Map<AwardDimension, AwardIntervals> intervals = new EnumMap<>(AwardDimension.class);
+        when(movieSnapshotService.open()).thenReturn(Optional.of(snapshot));
+        when(snapshot.wins()).thenReturn(wins);
+        when(snapshot.intervals()).thenReturn(intervals);
+        when(snapshot.movieCount()).thenReturn(3);
+        when(snapshot.movie(anyInt())).thenAnswer(invocation -> testMovies.get(invocation.getArgument(0)));
+        doAnswer(invocation -> {
+            assertTrue(dataLoadStatus.isIndexReady());
+            assertFalse(dataLoadStatus.isReady());
+            return null;
+        }).when(movieBatchWriter).write(any());
+
+        dataLoader.load();
+
+        InOrder inOrder = inOrder(awardIntervalIndex, movieBatchWriter, csvReloadService);
+        inOrder.verify(awardIntervalIndex).restore(wins, intervals);
+        inOrder.verify(movieBatchWriter).write(testMovies.subList(0, 2));
+        inOrder.verify(movieBatchWriter).write(testMovies.subList(2, 3));
+        inOrder.verify(csvReloadService).watch();
+        verify(csvReaderService, never()).readMovies(any());
+        verify(awardIntervalIndex, never()).rebuild();
+        verify(movieSnapshotService, never()).save();
+        assertTrue(dataLoadStatus.isReady());
+        assertEquals(3, dataLoadStatus.getRows());
+        assertEquals(3.0, meterRegistry.get("movies.loaded").counter().count());
+        assertEquals(1, meterRegistry.get("dataloader.stage").tag("stage", "ingest").tag("mode", "snapshot")
+            .timer().count());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenCsvWith(List<Movie> movies) {
+        when(csvReaderService.readMovies(any())).thenAnswer(invocation -> {
+            Consumer<Movie> consumer = invocation.getArgument(0);
+            movies.forEach(consumer);
+            return (long) movies.size();
+        });
     }
 }
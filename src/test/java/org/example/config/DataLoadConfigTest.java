@@ -0,0 +1,99 @@
+package org.example.config;
+
+import org.example.service.DataLoadStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataLoadConfigTest {
+
+    private DataLoadStatus dataLoadStatus;
+    private DataLoadConfig config;
+
+    @BeforeEach
+    void setUp() {
+        dataLoadStatus = new DataLoadStatus();
+        config = new DataLoadConfig(dataLoadStatus);
+    }
+
+    @Test
+    void testInterceptor_RejectsWithRetryAfterWhileLoading() throws Exception {
+        dataLoadStatus.addRows(500);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = new DataLoadConfig.DataLoadInterceptor(dataLoadStatus, false)
+            .preHandle(new MockHttpServletRequest(), response, new Object());
+
+        assertFalse(proceed);
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertEquals("Carga dos filmes em andamento: 500 gravados", response.getErrorMessage());
+    }
+
+    @Test
+    void testInterceptor_PassesThroughWhenReady() throws Exception {
+        dataLoadStatus.ready();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = new DataLoadConfig.DataLoadInterceptor(dataLoadStatus, false)
+            .preHandle(new MockHttpServletRequest(), response, new Object());
+
+        assertTrue(proceed);
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void testInterceptor_RejectsWithoutRetryAfterWhenLoadFailed() throws Exception {
+        dataLoadStatus.failed(new RuntimeException("Erro ao ler arquivo CSV"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = new DataLoadConfig.DataLoadInterceptor(dataLoadStatus, false)
+            .preHandle(new MockHttpServletRequest(), response, new Object());
+
+        assertFalse(proceed);
+        assertEquals(503, response.getStatus());
+        assertNull(response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void testInterceptor_ServesIntervalsOnceIndexIsRestored() throws Exception {
+        DataLoadConfig.DataLoadInterceptor intervals = new DataLoadConfig.DataLoadInterceptor(dataLoadStatus, true);
+        DataLoadConfig.DataLoadInterceptor movies = new DataLoadConfig.DataLoadInterceptor(dataLoadStatus, false);
+        assertFalse(intervals.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), new Object()));
+
+        dataLoadStatus.indexReady();
+
+        assertTrue(intervals.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), new Object()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(movies.preHandle(new MockHttpServletRequest(), response, new Object()));
+        assertEquals(503, response.getStatus());
+    }
+
+    @Test
+    void testHealthIndicator_ReportsProgressByState() {
+        dataLoadStatus.addRows(42);
+        Health loading = config.dataLoadHealthIndicator().health();
+        assertEquals(Status.OUT_OF_SERVICE, loading.getStatus());
+        assertEquals(42L, loading.getDetails().get("rows"));
+
+        dataLoadStatus.ready();
+        Health ready = config.dataLoadHealthIndicator().health();
+        assertEquals(Status.UP, ready.getStatus());
+        assertEquals(42L, ready.getDetails().get("rows"));
+    }
+
+    @Test
+    void testHealthIndicator_DownWithErrorWhenLoadFailed() {
+        dataLoadStatus.failed(new RuntimeException("Erro ao ler arquivo CSV"));
+
+        Health health = config.dataLoadHealthIndicator().health();
+
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals("Erro ao ler arquivo CSV", health.getDetails().get("error"));
+    }
+}
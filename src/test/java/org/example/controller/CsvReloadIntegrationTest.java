@@ -0,0 +1,102 @@
+package org.example.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.model.Producer;
+import org.example.repository.MovieRepository;
+import org.example.repository.ProducerRepository;
+import org.example.service.CsvReloadService;
+import org.example.service.DataLoadStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.csv.watch=false")
+@AutoConfigureMockMvc
+@DirtiesContext
+class CsvReloadIntegrationTest {
+
+    private static final String HEADER = "year;title;studios;producers;winner\n";
+
+    private static Path csv;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CsvReloadService csvReloadService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataLoadStatus dataLoadStatus;
+
+    @BeforeEach
+    void awaitDataLoad() throws InterruptedException {
+        assertTrue(dataLoadStatus.awaitReady(Duration.ofSeconds(30)));
+    }
+
+    @DynamicPropertySource
+    static void csvFile(DynamicPropertyRegistry registry) throws IOException {
+        csv = Files.createTempDirectory("csv-reload").resolve("movies.csv");
+        write(HEADER
+            + "1990;Movie A;Studio;Producer A;yes\n"
+            + "1995;Movie B;Studio;Producer A;yes\n"
+            + "1998;Movie E;Studio;Producer Gone;\n");
+        registry.add("spring.csv.filepath", csv::toString);
+    }
+
+    @Test
+    void testReload_SwapsDataAndSkipsUnchangedFile() throws Exception {
+        mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min[0].interval").value(5));
+
+        assertFalse(csvReloadService.reload());
+
+        write(HEADER
+            + "1990;Movie A;Studio;Producer A;yes\n"
+            + "1992;Movie C;Studio;Producer A;yes\n"
+            + "2010;Movie D;Studio;Producer A;yes\n");
+        assertTrue(csvReloadService.reload());
+
+        assertEquals(3, movieRepository.count());
+        assertEquals(Collections.singletonList("Producer A"),
+            producerRepository.findAll().stream().map(Producer::getName).collect(Collectors.toList()));
+        mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min[0].interval").value(2))
+                .andExpect(jsonPath("$.max[0].interval").value(18));
+        assertFalse(csvReloadService.reload());
+        assertEquals(2, meterRegistry.get("csv.reload").tag("result", "unchanged").counter().count());
+    }
+
+    private static void write(String content) throws IOException {
+        Files.write(csv, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
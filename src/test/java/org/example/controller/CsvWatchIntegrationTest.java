@@ -0,0 +1,94 @@
+package org.example.controller;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.repository.MovieRepository;
+import org.example.service.DataLoadStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class CsvWatchIntegrationTest {
+
+    private static final String HEADER = "year;title;studios;producers;winner\n";
+
+    private static Path csv;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataLoadStatus dataLoadStatus;
+
+    @BeforeEach
+    void awaitDataLoad() throws InterruptedException {
+        assertTrue(dataLoadStatus.awaitReady(Duration.ofSeconds(30)));
+    }
+
+    @DynamicPropertySource
+    static void csvFile(DynamicPropertyRegistry registry) throws IOException {
+        csv = Files.createTempDirectory("csv-watch").resolve("movies.csv");
+        write(HEADER
+            + "1990;Movie A;Studio;Producer A;yes\n"
+            + "1995;Movie B;Studio;Producer A;yes\n");
+        registry.add("spring.csv.filepath", csv::toString);
+    }
+
+    @Test
+    void testWatcher_ReloadsWhenFileChanges() throws Exception {
+        write(HEADER
+            + "2000;Movie E;Studio;Producer B;yes\n"
+            + "2001;Movie F;Studio;Producer B;yes\n"
+            + "2001;Movie G;Studio;Producer C;no\n"
+            + "2002;Movie H;Studio;Producer C;no\n");
+
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!reloaded() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertEquals(4, movieRepository.count());
+        mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min[0].producer").value("Producer B"))
+                .andExpect(jsonPath("$.min[0].interval").value(1));
+    }
+
+    /**
+     * O contador é incrementado só depois de o índice ser reconstruído.
+     */
+    private boolean reloaded() {
+        Counter counter = meterRegistry.find("csv.reload").tag("result", "reloaded").counter();
+        return counter != null && counter.count() > 0;
+    }
+
+   private static void write(String content) throws IOException {
+        Files.write(csv, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.MovieDTO;
+import org.example.service.AwardInterval;
+import org.example.service.AwardIntervals;
+import org.example.service.DataLoadStatus;
+import org.example.service.MovieService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.intervals.compute-in-database=true")
+@AutoConfigureMockMvc
+class DatabaseIntervalsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataLoadStatus dataLoadStatus;
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void awaitDataLoad() throws InterruptedException {
+        assertTrue(dataLoadStatus.awaitReady(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_ComputedByDatabaseMatchesCsv() throws Exception {
+        mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min.length()").value(1))
+                .andExpect(jsonPath("$.min[0].producer").value("Joel Silver"))
+                .andExpect(jsonPath("$.min[0].interval").value(1))
+                .andExpect(jsonPath("$.min[0].previousWin").value(1990))
+                .andExpect(jsonPath("$.min[0].followingWin").value(1991))
+                .andExpect(jsonPath("$.max.length()").value(1))
+                .andExpect(jsonPath("$.max[0].producer").value("Matthew Vaughn"))
+                .andExpect(jsonPath("$.max[0].interval").value(13))
+                .andExpect(jsonPath("$.max[0].previousWin").value(2002))
+                .andExpect(jsonPath("$.max[0].followingWin").value(2015));
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void testComputeMinMaxIntervals_DatabaseAndMemoryAgreeOnTiesAndRepeatedNames() throws Exception {
+        createMovie(2030, "Alpha Producer", false);
+        createMovie(2031, "Zed Producer", true);
+        createMovie(2032, "Zed Producer", true);
+        createMovie(2041, "Alpha Producer", true);
+        createMovie(2042, "Alpha Producer", true);
+        createMovie(2050, "Repeated Producer and Repeated Producer", true);
+        createMovie(2052, "Repeated Producer", true);
+
+        AwardIntervals inDatabase = movieService.computeMinMaxIntervalsInDatabase();
+        AwardIntervals inMemory = movieService.computeMinMaxIntervals(movieService.loadProducerWins());
+
+        assertEquals(Arrays.asList("Alpha Producer:1:2041", "Joel Silver:1:1990", "Zed Producer:1:2031"),
+            describe(inDatabase.getMin()));
+        assertEquals(describe(inDatabase.getMin()), describe(inMemory.getMin()));
+        assertEquals(describe(inDatabase.getMax()), describe(inMemory.getMax()));
+    }
+
+    private void createMovie(int year, String producers, boolean winner) throws Exception {
+        MovieDTO movie = new MovieDTO(null, year, "Movie " + year, "Studio", producers, winner);
+        mockMvc.perform(post("/api/movies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(movie)))
+                .andExpect(status().isCreated());
+    }
+
+    private static List<String> describe(List<AwardInterval> intervals) {
+        List<String> described = new ArrayList<>();
+        for (AwardInterval interval : intervals) {
+            described.add(interval.getName() + ":" + interval.getInterval() + ":" + interval.getPreviousWin());
+        }
+        return described;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.controller;
+
+import org.example.service.DataLoadStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataLoadStatus dataLoadStatus;
+
+    @BeforeEach
+    void awaitDataLoad() throws InterruptedException {
+        assertTrue(dataLoadStatus.awaitReady(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void testPrometheusEndpoint_ExposesApplicationMetrics() throws Exception {
+        mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "uri=\"/api/producers/awards-intervals\",quantile=\"0.95\"")))
+                .andExpect(content().string(containsString("method=\"loadWins\",stage=\"load\",quantile=\"0.99\"")))
+                .andExpect(content().string(containsString("method=\"rebuild\",stage=\"total\",quantile=\"0.99\"")))
+                .andExpect(content().string(containsString("awards_intervals_computed_total{mode=\"rebuild\",}")))
+                .andExpect(content().string(containsString("method=\"findWinners\",repository=\"MovieRepository\",state=\"SUCCESS\",quantile=\"0.95\"")))
+                .andExpect(content().string(containsString("movies_loaded_total")))
+                .andExpect(content().string(containsString("dataloader_stage_seconds_count{mode=\"sequential\",stage=\"ingest\",}")));
+    }
+}
@@ -1,17 +1,31 @@
 package org.example.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.example.dto.MovieDTO;
+import org.example.dto.MoviePageDTO;
 import org.example.dto.ProducerAwardsIntervalDTO;
 import org.example.dto.ProducerIntervalDTO;
+import org.example.dto.ProducerIntervalRankingDTO;
+import org.example.repository.MovieRepository;
+import org.example.service.DataLoadStatus;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -27,6 +41,17 @@ class MovieControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private DataLoadStatus dataLoadStatus;
+
+    @BeforeEach
+    void awaitDataLoad() throws InterruptedException {
+        assertTrue(dataLoadStatus.awaitReady(Duration.ofSeconds(30)));
+    }
+
     @Test
     void testGetProducersAwardsIntervals_ValidatesCompleteDataFromCsvFile() throws Exception {
         MvcResult result = mockMvc.perform(get("/api/producers/awards-intervals")
@@ -49,6 +74,173 @@ class MovieControllerIntegrationTest {
         validateMaxIntervalProducer(response.getMax());
     }
 
+    @Test
+    void testGetProducersAwardsIntervals_ScopedToYearRange() throws Exception {
+        mockMvc.perform(get("/api/producers/awards-intervals").param("from", "1990").param("to", "2010"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min.length()").value(1))
+                .andExpect(jsonPath("$.min[0].producer").value("Joel Silver"))
+                .andExpect(jsonPath("$.min[0].interval").value(1))
+                .andExpect(jsonPath("$.max[0].producer").value("Joel Silver"));
+
+        mockMvc.perform(get("/api/producers/awards-intervals").param("from", "2000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min[0].producer").value("Matthew Vaughn"))
+                .andExpect(jsonPath("$.min[0].interval").value(13));
+
+        mockMvc.perform(get("/api/producers/awards-intervals").param("from", "2010").param("to", "1990"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetStudiosAwardsIntervals_ComputedFromStudiosColumn() throws Exception {
+        mockMvc.perform(get("/api/studios/awards-intervals"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.min.length()").value(4))
+                .andExpect(jsonPath("$.min[0].interval").value(1))
+                .andExpect(jsonPath("$.max.length()").value(1))
+                .andExpect(jsonPath("$.max[0].studio").value("Paramount Pictures"))
+                .andExpect(jsonPath("$.max[0].producer").doesNotExist())
+                .andExpect(jsonPath("$.max[0].interval").value(15))
+                .andExpect(jsonPath("$.max[0].previousWin").value(1993))
+                .andExpect(jsonPath("$.max[0].followingWin").value(2008));
+
+        mockMvc.perform(get("/api/studios/awards-intervals/top").param("k", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.longest[1].studio").value("20th Century Fox"))
+                .andExpect(jsonPath("$.longest[1].interval").value(14));
+
+        mockMvc.perform(get("/api/studios/awards-intervals").param("from", "1993"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.max[0].studio").value("Paramount Pictures"))
+                .andExpect(jsonPath("$.max[0].producer").doesNotExist());
+    }
+
+    @Test
+    void testListMovies_PagesThroughAllMoviesInYearOrder() throws Exception {
+        Set<Long> seen = new HashSet<>();
+        int lastYear = Integer.MIN_VALUE;
+        String cursor = null;
+        do {
+            MvcResult result = mockMvc.perform(cursor == null
+                        ? get("/api/movies").param("size", "37")
+                        : get("/api/movies").param("size", "37").param("cursor", cursor))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            MoviePageDTO page = objectMapper.readValue(result.getResponse().getContentAsString(), MoviePageDTO.class);
+            for (MovieDTO movie : page.getMovies()) {
+                assertTrue(movie.getYear() >= lastYear, "Filmes devem vir em ordem de ano");
+                assertTrue(seen.add(movie.getId()), "Filme repetido entre páginas: " + movie.getId());
+                lastYear = movie.getYear();
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(movieRepository.count(), seen.size());
+    }
+
+    @Test
+    void testListMovies_FiltersWinnersByYearAndRejectsInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/movies").param("winner", "true").param("fromYear", "1980").param("toYear", "1980"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movies.length()").value(1))
+                .andExpect(jsonPath("$.movies[0].title").value("Can't Stop the Music"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+
+        mockMvc.perform(get("/api/movies").param("cursor", "@@"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_CborMatchesJson() throws Exception {
+        String json = mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        byte[] cbor = mockMvc.perform(get("/api/producers/awards-intervals").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(json, objectMapper.writeValueAsString(new CBORMapper().readValue(cbor, ProducerAwardsIntervalDTO.class)));
+        assertTrue(cbor.length < json.length());
+        mockMvc.perform(get("/api/producers/awards-intervals").accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void testGetTopProducersAwardsIntervals_SmileWhenAccepted() throws Exception {
+        byte[] smile = mockMvc.perform(get("/api/producers/awards-intervals/top").param("k", "3")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+        String json = mockMvc.perform(get("/api/producers/awards-intervals/top").param("k", "3"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(json, objectMapper.writeValueAsString(new SmileMapper().readValue(smile, ProducerIntervalRankingDTO.class)));
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_GzipVariantMatchesPlainJson() throws Exception {
+        MvcResult plain = mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult compressed = mockMvc.perform(get("/api/producers/awards-intervals")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"))
+                .andReturn();
+
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(compressed.getResponse().getContentAsByteArray()))) {
+            assertArrayEquals(plain.getResponse().getContentAsByteArray(), in.readAllBytes());
+        }
+
+        String eTag = compressed.getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/producers/awards-intervals")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_ConditionalGetReturnsNotModified() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/producers/awards-intervals")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/producers/awards-intervals")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"outra-versao\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min").isArray());
+    }
+
+    @Test
+    void testGetTopProducersAwardsIntervals_RanksCsvIntervals() throws Exception {
+        mockMvc.perform(get("/api/producers/awards-intervals/top").param("k", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.shortest.length()").value(3))
+                .andExpect(jsonPath("$.shortest[0].producer").value("Joel Silver"))
+                .andExpect(jsonPath("$.shortest[0].interval").value(1))
+                .andExpect(jsonPath("$.longest.length()").value(3))
+                .andExpect(jsonPath("$.longest[0].producer").value("Matthew Vaughn"))
+                .andExpect(jsonPath("$.longest[0].interval").value(13));
+
+        mockMvc.perform(get("/api/producers/awards-intervals/top").param("k", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
     private void validateMinIntervalProducer(List<ProducerIntervalDTO> minIntervals) {
         assertFalse(minIntervals.isEmpty(), 
             "Should have at least one producer with minimum interval");
@@ -210,4 +402,17 @@ class MovieControllerIntegrationTest {
         assertEquals(1, response.getMax().size(),
             "Expected exactly 1 producer with maximum interval based on current CSV data");
     }
+
+    @Test
+    void testHealthProbes_ReportDataLoadOnReadiness() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components.dataLoad.status").value("UP"))
+                .andExpect(jsonPath("$.components.dataLoad.details.rows").value(206));
+    }
 }
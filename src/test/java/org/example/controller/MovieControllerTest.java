@@ -1,142 +1,165 @@
 package org.example.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.example.dto.IngestResultDTO;
+import org.example.dto.MovieDTO;
+import org.example.dto.MoviePageDTO;
 import org.example.dto.ProducerAwardsIntervalDTO;
 import org.example.dto.ProducerIntervalDTO;
-import org.example.service.MovieService;
+import org.example.dto.ProducerIntervalRankingDTO;
+import org.example.dto.StudioAwardsIntervalDTO;
+import org.example.dto.StudioIntervalRankingDTO;
+import org.example.service.AwardDimension;
+import org.example.service.AwardInterval;
+import org.example.service.AwardIntervalIndex;
+import org.example.service.AwardIntervalRanking;
+import org.example.service.AwardIntervalSnapshot;
+import org.example.service.AwardIntervalSnapshots;
+import org.example.service.AwardIntervals;
+import org.example.service.MovieImportService;
+import org.example.service.MovieListingService;
+import org.example.service.MovieUpdateService;
+import org.example.service.NameWins;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class MovieControllerTest {
 
     @Mock
-    private MovieService movieService;
+    private AwardIntervalIndex awardIntervalIndex;
+
+    @Mock
+    private MovieUpdateService movieUpdateService;
+
+    @Mock
+    private MovieListingService movieListingService;
+
+    @Mock
+    private MovieImportService movieImportService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
 
     @InjectMocks
     private MovieController movieController;
 
     @Test
     void testGetProducersAwardsIntervals_Success() {
-        List<ProducerIntervalDTO> minIntervals = new ArrayList<>();
-        minIntervals.add(new ProducerIntervalDTO("Producer A", 1, 1990, 1991));
+        NameWins wins = wins("Producer A", 1990, "Producer A", 1991, "Producer B", 1990, "Producer B", 2000);
 
-        List<ProducerIntervalDTO> maxIntervals = new ArrayList<>();
-        maxIntervals.add(new ProducerIntervalDTO("Producer B", 10, 1990, 2000));
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot(wins));
 
-        ProducerAwardsIntervalDTO responseDto = new ProducerAwardsIntervalDTO(minIntervals, maxIntervals);
-
-        when(movieService.getProducersWithMinMaxAwardsInterval()).thenReturn(responseDto);
-
-        ResponseEntity<ProducerAwardsIntervalDTO> response = movieController.getProducersAwardsIntervals();
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(null, null, webRequest(null));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(1, response.getBody().getMin().size());
-        assertEquals(1, response.getBody().getMax().size());
-        assertEquals("Producer A", response.getBody().getMin().get(0).getProducer());
-        assertEquals(1, response.getBody().getMin().get(0).getInterval());
-        assertEquals("Producer B", response.getBody().getMax().get(0).getProducer());
-        assertEquals(10, response.getBody().getMax().get(0).getInterval());
+        assertEquals(1, body(response).getMin().size());
+        assertEquals(1, body(response).getMax().size());
+        assertEquals("Producer A", body(response).getMin().get(0).getProducer());
+        assertEquals(1, body(response).getMin().get(0).getInterval());
+        assertEquals("Producer B", body(response).getMax().get(0).getProducer());
+        assertEquals(10, body(response).getMax().get(0).getInterval());
     }
 
     @Test
     void testGetProducersAwardsIntervals_WithEmptyResults() {
-        ProducerAwardsIntervalDTO responseDto = new ProducerAwardsIntervalDTO(new ArrayList<>(), new ArrayList<>());
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot(new NameWins()));
 
-        when(movieService.getProducersWithMinMaxAwardsInterval()).thenReturn(responseDto);
-
-        ResponseEntity<ProducerAwardsIntervalDTO> response = movieController.getProducersAwardsIntervals();
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(null, null, webRequest(null));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertTrue(response.getBody().getMin().isEmpty());
-        assertTrue(response.getBody().getMax().isEmpty());
+        assertTrue(body(response).getMin().isEmpty());
+        assertTrue(body(response).getMax().isEmpty());
     }
 
     @Test
     void testGetProducersAwardsIntervals_WithMultipleResults() {
-        List<ProducerIntervalDTO> minIntervals = new ArrayList<>();
-        minIntervals.add(new ProducerIntervalDTO("Producer A", 1, 1990, 1991));
-        minIntervals.add(new ProducerIntervalDTO("Producer B", 1, 2000, 2001));
-
-        List<ProducerIntervalDTO> maxIntervals = new ArrayList<>();
-        maxIntervals.add(new ProducerIntervalDTO("Producer C", 15, 1985, 2000));
-        maxIntervals.add(new ProducerIntervalDTO("Producer D", 15, 1990, 2005));
+        NameWins wins = wins("Producer A", 1990, "Producer A", 1991, "Producer B", 2000, "Producer B", 2001,
+            "Producer C", 1985, "Producer C", 2000, "Producer D", 1990, "Producer D", 2005);
 
-        ProducerAwardsIntervalDTO responseDto = new ProducerAwardsIntervalDTO(minIntervals, maxIntervals);
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot(wins));
 
-        when(movieService.getProducersWithMinMaxAwardsInterval()).thenReturn(responseDto);
-
-        ResponseEntity<ProducerAwardsIntervalDTO> response = movieController.getProducersAwardsIntervals();
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(null, null, webRequest(null));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(2, response.getBody().getMin().size());
-        assertEquals(2, response.getBody().getMax().size());
-        assertEquals(1, response.getBody().getMin().get(0).getInterval());
-        assertEquals(1, response.getBody().getMin().get(1).getInterval());
-        assertEquals(15, response.getBody().getMax().get(0).getInterval());
-        assertEquals(15, response.getBody().getMax().get(1).getInterval());
+        assertEquals(2, body(response).getMin().size());
+        assertEquals(2, body(response).getMax().size());
+        assertEquals(1, body(response).getMin().get(0).getInterval());
+        assertEquals(1, body(response).getMin().get(1).getInterval());
+        assertEquals(15, body(response).getMax().get(0).getInterval());
+        assertEquals(15, body(response).getMax().get(1).getInterval());
     }
 
     @Test
     void testGetProducersAwardsIntervals_ReturnsOkStatus() {
-        ProducerAwardsIntervalDTO responseDto = new ProducerAwardsIntervalDTO(new ArrayList<>(), new ArrayList<>());
-
-        when(movieService.getProducersWithMinMaxAwardsInterval()).thenReturn(responseDto);
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot(new NameWins()));
 
-        ResponseEntity<ProducerAwardsIntervalDTO> response = movieController.getProducersAwardsIntervals();
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(null, null, webRequest(null));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
     @Test
     void testGetProducersAwardsIntervals_ResponseContainsMinAndMaxFields() {
-        List<ProducerIntervalDTO> minIntervals = new ArrayList<>();
-        minIntervals.add(new ProducerIntervalDTO("Producer X", 5, 1995, 2000));
-
-        List<ProducerIntervalDTO> maxIntervals = new ArrayList<>();
-        maxIntervals.add(new ProducerIntervalDTO("Producer Y", 20, 1980, 2000));
-
-        ProducerAwardsIntervalDTO responseDto = new ProducerAwardsIntervalDTO(minIntervals, maxIntervals);
+        NameWins wins = wins("Producer X", 1995, "Producer X", 2000, "Producer Y", 1980, "Producer Y", 2000);
 
-        when(movieService.getProducersWithMinMaxAwardsInterval()).thenReturn(responseDto);
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot(wins));
 
-        ResponseEntity<ProducerAwardsIntervalDTO> response = movieController.getProducersAwardsIntervals();
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(null, null, webRequest(null));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertNotNull(response.getBody().getMin());
-        assertNotNull(response.getBody().getMax());
+        assertNotNull(body(response).getMin());
+        assertNotNull(body(response).getMax());
     }
 
     @Test
     void testGetProducersAwardsIntervals_VerifyAllFields() {
-        List<ProducerIntervalDTO> minIntervals = new ArrayList<>();
-        minIntervals.add(new ProducerIntervalDTO("Test Producer", 3, 2010, 2013));
+        NameWins wins = wins("Test Producer", 2010, "Test Producer", 2013);
 
-        ProducerAwardsIntervalDTO responseDto = new ProducerAwardsIntervalDTO(minIntervals, new ArrayList<>());
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot(wins));
 
-        when(movieService.getProducersWithMinMaxAwardsInterval()).thenReturn(responseDto);
-
-        ResponseEntity<ProducerAwardsIntervalDTO> response = movieController.getProducersAwardsIntervals();
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(null, null, webRequest(null));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertFalse(response.getBody().getMin().isEmpty());
+        assertFalse(body(response).getMin().isEmpty());
         
-        ProducerIntervalDTO producer = response.getBody().getMin().get(0);
+        ProducerIntervalDTO producer = body(response).getMin().get(0);
         assertEquals("Test Producer", producer.getProducer());
         assertEquals(3, producer.getInterval());
         assertEquals(2010, producer.getPreviousWin());
@@ -145,13 +168,326 @@ class MovieControllerTest {
 
     @Test
     void testGetProducersAwardsIntervals_ContentTypeJson() {
-        ProducerAwardsIntervalDTO responseDto = new ProducerAwardsIntervalDTO(new ArrayList<>(), new ArrayList<>());
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot(new NameWins()));
+
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(null, null, webRequest(null));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
 
-        when(movieService.getProducersWithMinMaxAwardsInterval()).thenReturn(responseDto);
+    @Test
+    void testGetProducersAwardsIntervals_SendsETagFromSnapshotVersion() {
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot(new NameWins()));
 
-        ResponseEntity<ProducerAwardsIntervalDTO> response = movieController.getProducersAwardsIntervals();
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(null, null, webRequest(null));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"test-7\"", response.getHeaders().getETag());
+        assertEquals("no-cache", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_MatchingETagIsNotModified() {
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot(new NameWins()));
+
+        ResponseEntity<byte[]> response =
+            movieController.getProducersAwardsIntervals(null, null, webRequest("\"test-7\""));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(awardIntervalIndex, never()).getIntervals();
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_StaleETagReturnsBody() {
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot(new NameWins()));
+
+        ResponseEntity<byte[]> response =
+            movieController.getProducersAwardsIntervals(null, null, webRequest("\"test-6\""));
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
     }
+
+    @Test
+    void testGetProducersAwardsIntervals_SerializesOncePerVersion() throws Exception {
+        AwardIntervalSnapshot snapshot = snapshot(new NameWins());
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot);
+
+        byte[] first = movieController.getProducersAwardsIntervals(null, null, webRequest(null)).getBody();
+        byte[] second = movieController.getProducersAwardsIntervals(null, null, webRequest(null)).getBody();
+
+        assertSame(first, second);
+        verify(objectMapper, times(1)).writeValueAsBytes(any(ProducerAwardsIntervalDTO.class));
+
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(AwardIntervalSnapshots.of("test", 8, new NameWins()));
+        assertNotSame(first, movieController.getProducersAwardsIntervals(null, null, webRequest(null)).getBody());
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_GzipWhenAccepted() throws Exception {
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS))
+            .thenReturn(snapshot(wins("Producer A", 1990, "Producer A", 1991)));
+        ServletWebRequest request = webRequest(null);
+        ((MockHttpServletRequest) request.getRequest()).addHeader(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8");
+
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(null, null, request);
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"test-7-gzip\"", response.getHeaders().getETag());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            ProducerAwardsIntervalDTO body = new ObjectMapper().readValue(in, ProducerAwardsIntervalDTO.class);
+            assertEquals("Producer A", body.getMin().get(0).getProducer());
+        }
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_CborWhenAccepted() throws Exception {
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS))
+            .thenReturn(snapshot(wins("Producer A", 1990, "Producer A", 1991)));
+        ServletWebRequest request = webRequest(null);
+        ((MockHttpServletRequest) request.getRequest()).addHeader(HttpHeaders.ACCEPT, "application/cbor");
+
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(null, null, request);
+
+        assertEquals(MediaType.valueOf("application/cbor"), response.getHeaders().getContentType());
+        assertEquals("\"test-7-cbor\"", response.getHeaders().getETag());
+        ProducerAwardsIntervalDTO body = new CBORMapper().readValue(response.getBody(), ProducerAwardsIntervalDTO.class);
+        assertEquals("Producer A", body.getMin().get(0).getProducer());
+        assertTrue(response.getBody().length < new ObjectMapper().writeValueAsBytes(body).length);
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_SmileVariantsHaveOwnETagAndCache() throws Exception {
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot(new NameWins()));
+        ServletWebRequest request = webRequest(null);
+        ((MockHttpServletRequest) request.getRequest()).addHeader(HttpHeaders.ACCEPT, "application/json;q=0.5, application/x-jackson-smile");
+        ((MockHttpServletRequest) request.getRequest()).addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(null, null, request);
+
+        assertEquals("\"test-7-smile-gzip\"", response.getHeaders().getETag());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertTrue(new SmileMapper().readValue(in, ProducerAwardsIntervalDTO.class).getMin().isEmpty());
+        }
+        ServletWebRequest again = webRequest(null);
+        ((MockHttpServletRequest) again.getRequest()).addHeader(HttpHeaders.ACCEPT, "application/x-jackson-smile");
+        ((MockHttpServletRequest) again.getRequest()).addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        assertSame(response.getBody(), movieController.getProducersAwardsIntervals(null, null, again).getBody());
+        verify(objectMapper, never()).writeValueAsBytes(any());
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_UnsupportedAcceptIsNotAcceptable() {
+        ServletWebRequest request = webRequest(null);
+        ((MockHttpServletRequest) request.getRequest()).addHeader(HttpHeaders.ACCEPT, "application/xml");
+
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(null, null, request);
+
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, response.getStatusCode());
+        verify(awardIntervalIndex, never()).getSnapshot(any());
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(MovieController.acceptsGzip("gzip"));
+        assertTrue(MovieController.acceptsGzip("br, GZIP ; q=0.5"));
+        assertFalse(MovieController.acceptsGzip(null));
+        assertFalse(MovieController.acceptsGzip("deflate, br"));
+        assertFalse(MovieController.acceptsGzip("gzip;q=0"));
+        assertFalse(MovieController.acceptsGzip("gzip; q=0.000"));
+        assertFalse(MovieController.acceptsGzip("gzip;q = 0"));
+        assertFalse(MovieController.acceptsGzip("gzip;q=abc"));
+        assertTrue(MovieController.acceptsGzip("gzip;Q=0.001"));
+    }
+
+    @Test
+    void testGetTopProducersAwardsIntervals_CapsK() {
+        AwardIntervalRanking ranking = new AwardIntervalRanking(new ArrayList<>(), new ArrayList<>());
+        when(awardIntervalIndex.getTopIntervals(AwardDimension.PRODUCERS, MovieController.MAX_TOP_K)).thenReturn(ranking);
+
+        ResponseEntity<ProducerIntervalRankingDTO> response = movieController.getTopProducersAwardsIntervals(1000000);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().getShortest().isEmpty());
+        assertTrue(response.getBody().getLongest().isEmpty());
+    }
+
+    @Test
+    void testGetTopProducersAwardsIntervals_InvalidKIsBadRequest() {
+        ResponseEntity<ProducerIntervalRankingDTO> response = movieController.getTopProducersAwardsIntervals(0);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(awardIntervalIndex, never()).getTopIntervals(any(), anyInt());
+    }
+
+    @Test
+    void testGetStudiosAwardsIntervals_UsesStudioSnapshotAndOwnCache() throws Exception {
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS)).thenReturn(snapshot(new NameWins()));
+        when(awardIntervalIndex.getSnapshot(AwardDimension.STUDIOS))
+            .thenReturn(AwardIntervalSnapshots.of("test", 8, wins("Studio A", 1990, "Studio A", 1992)));
+
+        byte[] producers = movieController.getProducersAwardsIntervals(null, null, webRequest(null)).getBody();
+        ResponseEntity<byte[]> response = movieController.getStudiosAwardsIntervals(null, null, webRequest(null));
+
+        assertEquals("\"test-8\"", response.getHeaders().getETag());
+        assertEquals("Studio A", objectMapper.readValue(response.getBody(), StudioAwardsIntervalDTO.class)
+            .getMin().get(0).getStudio());
+        assertSame(producers, movieController.getProducersAwardsIntervals(null, null, webRequest(null)).getBody());
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_WithYearRangeQueriesIndex() {
+        List<AwardInterval> minIntervals = new ArrayList<>();
+        minIntervals.add(new AwardInterval("Producer A", 2, 1992, 1994));
+        when(awardIntervalIndex.getIntervals(AwardDimension.PRODUCERS, 1990, Integer.MAX_VALUE))
+            .thenReturn(new AwardIntervals(minIntervals, minIntervals));
+
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(1990, null, webRequest(null));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1992, body(response).getMin().get(0).getPreviousWin());
+        verify(awardIntervalIndex, never()).getSnapshot(any());
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_WithYearRangeInCbor() throws Exception {
+        List<AwardInterval> minIntervals = new ArrayList<>();
+        minIntervals.add(new AwardInterval("Producer A", 2, 1992, 1994));
+        when(awardIntervalIndex.getIntervals(AwardDimension.PRODUCERS, 1990, 2000))
+            .thenReturn(new AwardIntervals(minIntervals, minIntervals));
+        ServletWebRequest request = webRequest(null);
+        ((MockHttpServletRequest) request.getRequest()).addHeader(HttpHeaders.ACCEPT, "application/cbor");
+
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(1990, 2000, request);
+
+        assertEquals(MediaType.valueOf("application/cbor"), response.getHeaders().getContentType());
+        assertEquals(1992, new CBORMapper().readValue(response.getBody(), ProducerAwardsIntervalDTO.class)
+            .getMin().get(0).getPreviousWin());
+    }
+
+    @Test
+    void testGetProducersAwardsIntervals_InvertedRangeIsBadRequest() {
+        ResponseEntity<byte[]> response = movieController.getProducersAwardsIntervals(2010, 1990, webRequest(null));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(awardIntervalIndex, never()).getIntervals(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testGetTopStudiosAwardsIntervals_UsesStudioDimension() {
+        List<AwardInterval> shortest = new ArrayList<>();
+        shortest.add(new AwardInterval("Studio A", 1, 1990, 1991));
+        when(awardIntervalIndex.getTopIntervals(AwardDimension.STUDIOS, 5))
+            .thenReturn(new AwardIntervalRanking(shortest, new ArrayList<>()));
+
+        StudioIntervalRankingDTO ranking = movieController.getTopStudiosAwardsIntervals(5).getBody();
+        assertEquals("Studio A", ranking.getShortest().get(0).getStudio());
+        assertEquals(1991, ranking.getShortest().get(0).getFollowingWin());
+        assertTrue(ranking.getLongest().isEmpty());
+        assertEquals(HttpStatus.BAD_REQUEST, movieController.getTopStudiosAwardsIntervals(0).getStatusCode());
+    }
+
+    @Test
+    void testImportMovies_ReturnsResultOrTooManyRequests() throws Exception {
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        IngestResultDTO result = new IngestResultDTO(10L, 1L, new ArrayList<>(), 5L);
+        when(movieImportService.importCsv(body)).thenReturn(Optional.of(result)).thenReturn(Optional.empty());
+
+        ResponseEntity<IngestResultDTO> imported = movieController.importMovies(body);
+        ResponseEntity<IngestResultDTO> busy = movieController.importMovies(body);
+
+        assertEquals(HttpStatus.OK, imported.getStatusCode());
+        assertSame(result, imported.getBody());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, busy.getStatusCode());
+        assertEquals("5", busy.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void testCreateMovie_ReturnsCreated() {
+        MovieDTO request = new MovieDTO(null, 2020, "New Movie", "Studio", "Producer A", true);
+        when(movieUpdateService.create(request)).thenReturn(new MovieDTO(1L, 2020, "New Movie", "Studio", "Producer A", true));
+
+        ResponseEntity<MovieDTO> response = movieController.createMovie(request);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(1L, response.getBody().getId());
+    }
+
+    @Test
+    void testCreateMovie_WithoutYearIsBadRequest() {
+        ResponseEntity<MovieDTO> response = movieController.createMovie(new MovieDTO());
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(movieUpdateService, never()).create(any());
+    }
+
+    @Test
+    void testUpdateMovie_NotFound() {
+        MovieDTO request = new MovieDTO(null, 2020, "Movie", "Studio", "Producer A", true);
+        when(movieUpdateService.update(eq(99L), any())).thenReturn(Optional.empty());
+
+        ResponseEntity<MovieDTO> response = movieController.updateMovie(99L, request);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void testDeleteMovie_ReturnsNoContentOrNotFound() {
+        when(movieUpdateService.delete(1L)).thenReturn(true);
+        when(movieUpdateService.delete(2L)).thenReturn(false);
+
+        assertEquals(HttpStatus.NO_CONTENT, movieController.deleteMovie(1L).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, movieController.deleteMovie(2L).getStatusCode());
+    }
+
+    @Test
+    void testListMovies_ReturnsPageAndCapsSize() {
+        MoviePageDTO page = new MoviePageDTO(List.of(new MovieDTO(1L, 1980, "Movie", "Studio", "Producer A", true)), "next");
+        when(movieListingService.list(1980, 1990, true, null, MovieController.MAX_PAGE_SIZE)).thenReturn(page);
+
+        ResponseEntity<MoviePageDTO> response = movieController.listMovies(1980, 1990, true, null, 1000);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(page, response.getBody());
+    }
+
+    @Test
+    void testListMovies_InvalidSizeOrCursorReturnsBadRequest() {
+        when(movieListingService.list(null, null, null, "invalid", 20)).thenThrow(new IllegalArgumentException("Cursor inválido"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, movieController.listMovies(null, null, null, null, 0).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, movieController.listMovies(null, null, null, "invalid", 20).getStatusCode());
+    }
+
+    private ProducerAwardsIntervalDTO body(ResponseEntity<byte[]> response) {
+        try {
+            return objectMapper.readValue(response.getBody(), ProducerAwardsIntervalDTO.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static AwardIntervalSnapshot snapshot(NameWins wins) {
+        return AwardIntervalSnapshots.of("test", 7, wins);
+    }
+
+    private static NameWins wins(Object... namesAndYears) {
+        NameWins wins = new NameWins();
+        for (int i = 0; i < namesAndYears.length; i += 2) {
+            wins.add((String) namesAndYears[i], (Integer) namesAndYears[i + 1]);
+        }
+        return wins;
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/producers/awards-intervals");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
@@ -0,0 +1,80 @@
+package org.example.controller;
+
+import org.example.service.DataLoadStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class MovieImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataLoadStatus dataLoadStatus;
+
+    @BeforeEach
+    void awaitDataLoad() throws InterruptedException {
+        assertTrue(dataLoadStatus.awaitReady(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void testImportMovies_GzipCsvUpdatesIntervals() throws Exception {
+        String csv = "year;title;studios;producers;winner\n"
+            + "2040;Imported A;Studio;Imported Producer;yes\n"
+            + "abc;Broken;Studio;Imported Producer;yes\n"
+            + "2100;Imported B;Studio;Imported Producer;yes\n";
+
+        mockMvc.perform(post("/api/movies/import")
+                        .header(HttpHeaders.CONTENT_TYPE, "text/csv")
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(gzip(csv)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejectedLines[0].line").value(3))
+                .andExpect(jsonPath("$.elapsedMillis").exists());
+
+        mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.max.length()").value(1))
+                .andExpect(jsonPath("$.max[0].producer").value("Imported Producer"))
+                .andExpect(jsonPath("$.max[0].interval").value(60));
+    }
+
+    @Test
+    void testImportMovies_PlainCsv() throws Exception {
+        mockMvc.perform(post("/api/movies/import")
+                        .header(HttpHeaders.CONTENT_TYPE, "text/csv")
+                        .content("year;title;studios;producers;winner\n1999;Plain;Studio;Plain Producer;\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(1))
+                .andExpect(jsonPath("$.rejected").value(0));
+    }
+
+    private static byte[] gzip(String value) throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return compressed.toByteArray();
+    }
+}
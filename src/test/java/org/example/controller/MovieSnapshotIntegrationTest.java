@@ -0,0 +1,88 @@
+package org.example.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.ProducerAwardsIntervalDTO;
+import org.example.dto.StudioAwardsIntervalDTO;
+import org.example.service.AwardDimension;
+import org.example.service.AwardIntervals;
+import org.example.service.DataLoadStatus;
+import org.example.service.MovieSnapshot;
+import org.example.service.MovieSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"spring.csv.watch=false", "spring.snapshot.enabled=true"})
+@AutoConfigureMockMvc
+@DirtiesContext
+class MovieSnapshotIntegrationTest {
+
+    private static Path directory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MovieSnapshotService movieSnapshotService;
+
+    @Autowired
+    private DataLoadStatus dataLoadStatus;
+
+    @BeforeEach
+    void awaitDataLoad() throws InterruptedException {
+        assertTrue(dataLoadStatus.awaitReady(Duration.ofSeconds(30)));
+    }
+
+    @DynamicPropertySource
+    static void files(DynamicPropertyRegistry registry) throws IOException {
+        directory = Files.createTempDirectory("movie-snapshot");
+        Path csv = directory.resolve("movies.csv");
+        Files.write(csv, ("year;title;studios;producers;winner\n"
+            + "1990;Movie A;Studio X;Producer A;yes\n"
+            + "1991;Movie B;Studio Y;Producer A and Producer B;yes\n"
+            + "1999;Movie C;Studio X;Producer B;yes\n"
+            + "2000;Movie D;Studio Y;Producer C;\n").getBytes(StandardCharsets.UTF_8));
+        registry.add("spring.csv.filepath", csv::toString);
+        registry.add("spring.snapshot.path", () -> directory.resolve("movies.snapshot").toString());
+    }
+
+    @Test
+    void testFirstLoad_WritesSnapshotMatchingServedData() throws Exception {
+        MovieSnapshot snapshot = movieSnapshotService.open().orElseThrow(AssertionError::new);
+
+        assertEquals(4, snapshot.movieCount());
+        assertEquals("Producer A and Producer B", snapshot.movie(1).getProducers());
+        assertFalse(snapshot.movie(3).getWinner());
+        for (AwardDimension dimension : AwardDimension.values()) {
+            String path = dimension == AwardDimension.PRODUCERS ? "producers" : "studios";
+            String served = mockMvc.perform(get("/api/" + path + "/awards-intervals"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            AwardIntervals intervals = snapshot.intervals().get(dimension);
+            assertEquals(served, objectMapper.writeValueAsString(dimension == AwardDimension.PRODUCERS
+                ? ProducerAwardsIntervalDTO.from(intervals) : StudioAwardsIntervalDTO.from(intervals)));
+        }
+        AwardIntervals producers = snapshot.intervals().get(AwardDimension.PRODUCERS);
+        assertEquals("Producer A", producers.getMin().get(0).getName());
+        assertEquals("Producer B", producers.getMax().get(0).getName());
+    }
+}
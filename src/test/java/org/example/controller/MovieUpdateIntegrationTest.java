@@ -0,0 +1,109 @@
+package org.example.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.MovieDTO;
+import org.example.service.DataLoadStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class MovieUpdateIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataLoadStatus dataLoadStatus;
+
+    @BeforeEach
+    void awaitDataLoad() throws InterruptedException {
+        assertTrue(dataLoadStatus.awaitReady(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void testCreateAndDeleteWinner_UpdatesAwardsIntervals() throws Exception {
+        MovieDTO movie = new MovieDTO(null, 2016, "Sequel", "Studio", "Matthew Vaughn", true);
+
+        String created = mockMvc.perform(post("/api/movies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(movie)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").exists())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(created, MovieDTO.class).getId();
+
+        mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min.length()").value(2))
+                .andExpect(jsonPath("$.min[1].producer").value("Matthew Vaughn"))
+                .andExpect(jsonPath("$.min[1].previousWin").value(2015))
+                .andExpect(jsonPath("$.min[1].followingWin").value(2016));
+
+        mockMvc.perform(delete("/api/movies/" + id))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min.length()").value(1))
+                .andExpect(jsonPath("$.min[0].producer").value("Joel Silver"))
+                .andExpect(jsonPath("$.max[0].producer").value("Matthew Vaughn"))
+                .andExpect(jsonPath("$.max[0].interval").value(13));
+    }
+
+    @Test
+    void testUpdateWinner_MovesIntervalToNewYear() throws Exception {
+        MovieDTO movie = new MovieDTO(null, 2030, "Future", "Studio", "Joel Silver", true);
+        String created = mockMvc.perform(post("/api/movies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(movie)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readValue(created, MovieDTO.class).getId();
+
+        mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(jsonPath("$.max[0].producer").value("Joel Silver"))
+                .andExpect(jsonPath("$.max[0].interval").value(39));
+
+        movie.setWinner(false);
+        mockMvc.perform(put("/api/movies/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(movie)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.winner").value(false));
+
+        mockMvc.perform(get("/api/producers/awards-intervals"))
+                .andExpect(jsonPath("$.max[0].producer").value("Matthew Vaughn"));
+
+        mockMvc.perform(delete("/api/movies/" + id))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void testUpdateAndDeleteUnknownMovie_ReturnNotFound() throws Exception {
+        MovieDTO movie = new MovieDTO(null, 2000, "Unknown", "Studio", "Producer", true);
+
+        mockMvc.perform(put("/api/movies/999999")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(movie)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/movies/999999"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseFormatTest {
+
+    @Test
+    void testNegotiate_DefaultsToJson() {
+        assertEquals(Optional.of(ResponseFormat.JSON), ResponseFormat.negotiate(null));
+        assertEquals(Optional.of(ResponseFormat.JSON), ResponseFormat.negotiate(" "));
+        assertEquals(Optional.of(ResponseFormat.JSON), ResponseFormat.negotiate("*/*"));
+        assertEquals(Optional.of(ResponseFormat.JSON), ResponseFormat.negotiate("application/*"));
+        assertEquals(Optional.of(ResponseFormat.JSON), ResponseFormat.negotiate("text/html, application/json"));
+    }
+
+    @Test
+    void testNegotiate_PrefersHighestQuality() {
+        assertEquals(Optional.of(ResponseFormat.CBOR), ResponseFormat.negotiate("application/cbor"));
+        assertEquals(Optional.of(ResponseFormat.SMILE),
+            ResponseFormat.negotiate("application/json;q=0.8, application/x-jackson-smile"));
+        assertEquals(Optional.of(ResponseFormat.CBOR),
+            ResponseFormat.negotiate("*/*;q=0.1, application/cbor;q=0.9"));
+    }
+
+    @Test
+    void testNegotiate_EmptyWhenNothingSupportedIsAccepted() {
+        assertFalse(ResponseFormat.negotiate("application/xml").isPresent());
+        assertFalse(ResponseFormat.negotiate("application/cbor;q=0").isPresent());
+        assertFalse(ResponseFormat.negotiate("not a media type").isPresent());
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.repository;
+
+import org.example.model.Movie;
+import org.example.repository.projection.ProducerIntervalProjection;
+import org.example.service.ProducerCatalogService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ProducerCatalogService.class)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class MovieProducerRepositoryTest {
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private MovieProducerRepository movieProducerRepository;
+
+    @Autowired
+    private ProducerCatalogService producerCatalogService;
+
+    @Test
+    void testFindMinMaxIntervals_ReturnsOnlyMinAndMaxRows() {
+        givenMovies(
+            new Movie(1990, "Movie 1", "Studio", "Window A and Window B", true),
+            new Movie(1991, "Movie 2", "Studio", "Window A", true),
+            new Movie(1995, "Movie 3", "Studio", "Window A", true),
+            new Movie(2010, "Movie 4", "Studio", "Window B", true),
+            new Movie(1992, "Movie 5", "Studio", "Window B", false),
+            new Movie(2000, "Movie 6", "Studio", "Window C", true));
+
+        List<ProducerIntervalProjection> intervals = movieProducerRepository.findMinMaxIntervals();
+
+        assertEquals(2, intervals.size());
+        assertInterval(intervals.get(0), "Window A", 1, 1990, 1991);
+        assertInterval(intervals.get(1), "Window B", 20, 1990, 2010);
+    }
+
+    @Test
+    void testFindMinMaxIntervals_KeepsTies() {
+        givenMovies(
+            new Movie(1990, "Movie 1", "Studio", "Window A, Window B", true),
+            new Movie(1993, "Movie 2", "Studio", "Window A and Window B", true));
+
+        List<ProducerIntervalProjection> intervals = new ArrayList<>(movieProducerRepository.findMinMaxIntervals());
+
+        assertEquals(2, intervals.size());
+        intervals.sort(Comparator.comparing(ProducerIntervalProjection::getProducer));
+        assertInterval(intervals.get(0), "Window A", 3, 1990, 1993);
+        assertInterval(intervals.get(1), "Window B", 3, 1990, 1993);
+    }
+
+    @Test
+    void testFindMinMaxIntervals_WithoutConsecutiveWins() {
+        givenMovies(new Movie(1990, "Movie 1", "Studio", "Window A", true));
+
+        assertTrue(movieProducerRepository.findMinMaxIntervals().isEmpty());
+    }
+
+    private void givenMovies(Movie... movies) {
+        producerCatalogService.linkProducers(movieRepository.saveAll(Arrays.asList(movies)));
+        movieProducerRepository.flush();
+    }
+
+    private static void assertInterval(ProducerIntervalProjection interval, String producer, int gap,
+                                       int previousWin, int followingWin) {
+        assertEquals(producer, interval.getProducer());
+        assertEquals(gap, interval.getGap());
+        assertEquals(previousWin, interval.getPreviousWin());
+        assertEquals(followingWin, interval.getFollowingWin());
+    }
+}
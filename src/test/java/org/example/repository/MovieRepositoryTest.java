@@ -1,24 +1,39 @@
 package org.example.repository;
 
+import org.example.dto.MovieDTO;
 import org.example.model.Movie;
+import org.example.repository.projection.WinnerProjection;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestPropertySource;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
-@TestPropertySource(locations = "classpath:application-test.properties")
+@TestPropertySource(locations = "classpath:application-test.properties", properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.example.repository.MovieRepositoryTest$LastStatement")
 class MovieRepositoryTest {
 
     @Autowired
     private MovieRepository movieRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Movie winnerMovie;
     private Movie loserMovie;
 
@@ -44,6 +59,26 @@ class MovieRepositoryTest {
         assertEquals("Dances with Wolves", winners.get(0).getTitle());
     }
 
+    @Test
+    void testFindWinners_ReturnsOnlyIntervalColumns() {
+        List<WinnerProjection> winners = movieRepository.findWinners();
+
+        assertEquals(1, winners.size());
+        assertEquals(1990, winners.get(0).getYear());
+        assertEquals("Kevin Costner, Jim Wilson", winners.get(0).getProducers());
+        assertEquals("Orion Pictures", winners.get(0).getStudios());
+    }
+
+    @Test
+    void testFindWinners_DoesNotLoadEntitiesIntoPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+
+        movieRepository.findWinners();
+
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
     @Test
     void testFindByWinnerTrue_WithNoWinners() {
         movieRepository.deleteAll();
@@ -278,4 +313,98 @@ class MovieRepositoryTest {
             assertTrue(winner.getWinner());
         }
     }
+
+    @Test
+    void testFindPageAfter_SeeksPastCursorInYearAndIdOrder() {
+        Movie sameYear = movieRepository.save(new Movie(1990, "Ghost", "Paramount", "Lisa Weinstein", false));
+        movieRepository.save(new Movie(1985, "Out of Africa", "Universal", "Sydney Pollack", true));
+
+        List<MovieDTO> firstPage = movieRepository.findPageAfter(Integer.MIN_VALUE, Integer.MAX_VALUE,
+            Integer.MIN_VALUE, Long.MIN_VALUE, PageRequest.of(0, 2));
+        assertEquals(2, firstPage.size());
+        assertEquals("Out of Africa", firstPage.get(0).getTitle());
+        assertEquals("Dances with Wolves", firstPage.get(1).getTitle());
+
+        MovieDTO last = firstPage.get(1);
+        List<MovieDTO> nextPage = movieRepository.findPageAfter(Integer.MIN_VALUE, Integer.MAX_VALUE,
+            last.getYear(), last.getId(), PageRequest.of(0, 2));
+        assertEquals(2, nextPage.size());
+        assertEquals(sameYear.getId(), nextPage.get(0).getId());
+        assertEquals("Unforgiven", nextPage.get(1).getTitle());
+    }
+
+    @Test
+    void testFindPageAfter_DeepPageSeeksIndexFromCursor() {
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            movies.add(new Movie(1900 + i % 120, "Movie " + i, "Studio", "Producer " + i, i % 2 == 0));
+        }
+        movieRepository.saveAll(movies);
+        entityManager.flush();
+        Movie cursor = movies.get(110);
+
+        List<MovieDTO> page = movieRepository.findPageAfter(Integer.MIN_VALUE, Integer.MAX_VALUE,
+            cursor.getYear(), cursor.getId(), PageRequest.of(0, 10));
+        assertEquals(10, page.size());
+        assertTrue(scanCount(LastStatement.sql, Integer.MIN_VALUE, Integer.MAX_VALUE,
+            cursor.getYear(), cursor.getYear(), cursor.getYear(), cursor.getId(), 10) < 100);
+
+        page = movieRepository.findPageAfterByWinner(false, Integer.MIN_VALUE, Integer.MAX_VALUE,
+            cursor.getYear(), cursor.getId(), PageRequest.of(0, 10));
+        assertEquals(10, page.size());
+        assertTrue(scanCount(LastStatement.sql, false, Integer.MIN_VALUE, Integer.MAX_VALUE,
+            cursor.getYear(), cursor.getYear(), cursor.getYear(), cursor.getId(), 10) < 100);
+    }
+
+    @Test
+    void testFindPageAfter_FiltersByYearRangeAndWinner() {
+        movieRepository.save(new Movie(1991, "The Silence of the Lambs", "Orion Pictures", "Edward Saxon", true));
+
+        List<MovieDTO> inRange = movieRepository.findPageAfter(1991, 1992,
+            Integer.MIN_VALUE, Long.MIN_VALUE, PageRequest.of(0, 10));
+        assertEquals(2, inRange.size());
+
+        List<MovieDTO> winners = movieRepository.findPageAfterByWinner(true, 1991, 1992,
+            Integer.MIN_VALUE, Long.MIN_VALUE, PageRequest.of(0, 10));
+        assertEquals(1, winners.size());
+        assertEquals("The Silence of the Lambs", winners.get(0).getTitle());
+        assertTrue(winners.get(0).getWinner());
+        assertEquals("Edward Saxon", winners.get(0).getProducers());
+    }
+
+    /**
+     * Maior {@code scanCount} do plano do H2 ({@code EXPLAIN ANALYZE}) para a consulta gerada pelo Hibernate.
+     * Os parâmetros seguem a ordem em que aparecem na consulta.
+     */
+    private long scanCount(String sql, Object... parameters) {
+        return entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN ANALYZE " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet plan = statement.executeQuery()) {
+                    plan.next();
+                    Matcher matcher = Pattern.compile("scanCount: (\\d+)").matcher(plan.getString(1));
+                    long scanCount = 0;
+                    while (matcher.find()) {
+                        scanCount = Math.max(scanCount, Long.parseLong(matcher.group(1)));
+                    }
+                    return scanCount;
+                }
+            }
+        });
+    }
+
+    /**
+     * Guarda o último SQL preparado pelo Hibernate.
+     */
+    public static class LastStatement implements StatementInspector {
+        static volatile String sql;
+
+        @Override
+        public String inspect(String sql) {
+            LastStatement.sql = sql;
+            return sql;
+        }
+    }
 }
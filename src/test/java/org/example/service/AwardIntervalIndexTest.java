@@ -0,0 +1,408 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.model.Movie;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AwardIntervalIndexTest {
+
+    @Mock
+    private MovieService movieService;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private AwardIntervalIndex awardIntervalIndex;
+
+    @Test
+    void testGetIntervals_BuildsSnapshotOnlyOnce() {
+        givenWins(wins("Producer A", 1990, 1991));
+
+        AwardIntervals first = awardIntervalIndex.getIntervals();
+        AwardIntervals second = awardIntervalIndex.getIntervals();
+
+        assertSame(first, second);
+        assertEquals("Producer A", first.getMin().get(0).getName());
+        verify(movieService, times(1)).loadWins(any());
+    }
+
+    @Test
+    void testRebuild_SwapsSnapshotAndIncrementsVersion() {
+        when(movieService.loadWins(any()))
+            .thenReturn(byDimension(wins("Producer A", 1990, 1991), new NameWins()))
+            .thenReturn(byDimension(wins("Producer B", 1990, 1992), new NameWins()));
+        when(movieService.computeMinMaxIntervals(any(NameWins.class))).thenCallRealMethod();
+
+        AwardIntervalSnapshot first = awardIntervalIndex.rebuild();
+        AwardIntervalSnapshot second = awardIntervalIndex.rebuild();
+
+        assertTrue(second.getVersion() > first.getVersion());
+        assertSame(second, awardIntervalIndex.getSnapshot());
+        assertEquals("Producer B", awardIntervalIndex.getIntervals().getMin().get(0).getName());
+    }
+
+    @Test
+    void testSnapshot_IsImmutable() {
+        givenWins(wins("Producer A", 1990, 1991));
+
+        AwardIntervals intervals = awardIntervalIndex.getIntervals();
+
+        assertThrows(UnsupportedOperationException.class,
+            () -> intervals.getMin().add(new AwardInterval("Producer C", 3, 2000, 2003)));
+    }
+
+    @Test
+    void testRebuild_ChangesETagWithVersion() {
+        givenWins(wins("Producer A", 1990, 1991));
+
+        AwardIntervalSnapshot first = awardIntervalIndex.rebuild();
+        AwardIntervalSnapshot second = awardIntervalIndex.rebuild();
+
+        assertTrue(first.getETag().startsWith("\"") && first.getETag().endsWith("\""));
+        assertNotEquals(first.getETag(), second.getETag());
+    }
+
+    @Test
+    void testMovieAdded_UpdatesIntervalsWithoutReloading() {
+        givenWins(wins("Producer A", 1990, 2000));
+        awardIntervalIndex.rebuild();
+        long version = awardIntervalIndex.getSnapshot().getVersion();
+
+        awardIntervalIndex.movieAdded(new Movie(1992, "Movie", "Studio", "Producer A and Producer B", true));
+
+        AwardIntervals intervals = awardIntervalIndex.getIntervals();
+        assertEquals(2, intervals.getMin().get(0).getInterval());
+        assertEquals(8, intervals.getMax().get(0).getInterval());
+        assertTrue(awardIntervalIndex.getSnapshot().getVersion() > version);
+        verify(movieService, times(1)).loadWins(any());
+    }
+
+    @Test
+    void testRebuildAndIncrementalUpdates_AreCounted() {
+        givenWins(wins("Producer A", 1990, 2000));
+        awardIntervalIndex.rebuild();
+
+        awardIntervalIndex.movieAdded(new Movie(1992, "Movie", "Studio", "Producer A", true));
+        awardIntervalIndex.movieAdded(new Movie(1993, "Movie", "Studio", "Producer A", false));
+
+        assertEquals(1.0, meterRegistry.get("awards.intervals.computed").tag("mode", "rebuild").counter().count());
+        assertEquals(1.0, meterRegistry.get("awards.intervals.computed").tag("mode", "incremental").counter().count());
+    }
+
+    @Test
+    void testGetTopIntervals_ReflectsIncrementalChanges() {
+        givenWins(wins("Producer A", 1990, 2000));
+
+        assertEquals(10, awardIntervalIndex.getTopIntervals(5).getShortest().get(0).getInterval());
+
+        awardIntervalIndex.movieAdded(new Movie(1992, "Movie", "Studio", "Producer A", true));
+
+        AwardIntervalRanking ranking = awardIntervalIndex.getTopIntervals(5);
+        assertEquals(2, ranking.getShortest().size());
+        assertEquals(2, ranking.getShortest().get(0).getInterval());
+        assertEquals(8, ranking.getLongest().get(0).getInterval());
+        verify(movieService, times(1)).loadWins(any());
+    }
+
+    @Test
+    void testGetTopIntervals_SlicesRankingOfPublishedVersion() {
+        givenWins(wins("Producer A", 1990, 1992, 1995, 2005));
+        awardIntervalIndex.rebuild();
+
+        AwardIntervalRanking one = awardIntervalIndex.getTopIntervals(1);
+        AwardIntervalRanking all = awardIntervalIndex.getTopIntervals(1000);
+
+        assertEquals(1, one.getShortest().size());
+        assertEquals(2, one.getShortest().get(0).getInterval());
+        assertEquals(10, one.getLongest().get(0).getInterval());
+        assertEquals(3, all.getShortest().size());
+        assertThrows(UnsupportedOperationException.class, () -> all.getLongest().clear());
+    }
+
+    @Test
+    void testGetTopIntervals_ServesPreviousVersionWhileRebuilding() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(movieService.loadWins(any()))
+            .thenReturn(byDimension(wins("Producer A", 1990, 1991), new NameWins()))
+            .thenAnswer(invocation -> {
+                loading.countDown();
+                release.await();
+                return byDimension(wins("Producer B", 1990, 1995), new NameWins());
+            });
+        when(movieService.computeMinMaxIntervals(any(NameWins.class))).thenCallRealMethod();
+        awardIntervalIndex.rebuild();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<AwardIntervalSnapshot> rebuild = executor.submit(() -> awardIntervalIndex.rebuild());
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            AwardIntervalRanking during = assertTimeoutPreemptively(Duration.ofSeconds(2),
+                () -> awardIntervalIndex.getTopIntervals(5));
+            assertEquals("Producer A", during.getShortest().get(0).getName());
+
+            release.countDown();
+            rebuild.get(5, TimeUnit.SECONDS);
+            assertEquals("Producer B", awardIntervalIndex.getTopIntervals(5).getShortest().get(0).getName());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetIntervalsInRange_AnswersFromPublishedVersionWhileRebuilding() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(movieService.loadWins(any()))
+            .thenReturn(byDimension(wins("Producer A", 1990, 1991, 2000), new NameWins()))
+            .thenAnswer(invocation -> {
+                loading.countDown();
+                release.await();
+                return byDimension(wins("Producer B", 1990, 1995), new NameWins());
+            });
+        when(movieService.computeMinMaxIntervals(any(NameWins.class))).thenCallRealMethod();
+        awardIntervalIndex.rebuild();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<AwardIntervalSnapshot> rebuild = executor.submit(() -> awardIntervalIndex.rebuild());
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            AwardIntervals during = assertTimeoutPreemptively(Duration.ofSeconds(2),
+                () -> awardIntervalIndex.getIntervals(AwardDimension.PRODUCERS, 1991, 2000));
+            assertEquals(9, during.getMin().get(0).getInterval());
+
+            release.countDown();
+            rebuild.get(5, TimeUnit.SECONDS);
+            assertTrue(awardIntervalIndex.getIntervals(AwardDimension.PRODUCERS, 1991, 2000).getMin().isEmpty());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testMovieAdded_IgnoresNonWinners() {
+        givenWins(wins("Producer A", 1990, 2000));
+        awardIntervalIndex.rebuild();
+        AwardIntervalSnapshot snapshot = awardIntervalIndex.getSnapshot();
+
+        awardIntervalIndex.movieAdded(new Movie(1992, "Movie", "Studio", "Producer A", false));
+
+        assertSame(snapshot, awardIntervalIndex.getSnapshot());
+    }
+
+    @Test
+    void testMovieRemoved_UpdatesIntervals() {
+        givenWins(wins("Producer A", 1990, 1991, 2000));
+        awardIntervalIndex.rebuild();
+
+        awardIntervalIndex.movieRemoved(new Movie(1991, "Movie", "Studio", "Producer A", true));
+
+        assertEquals(10, awardIntervalIndex.getIntervals().getMin().get(0).getInterval());
+    }
+
+    @Test
+    void testMovieChanged_MovesWinToNewYear() {
+        givenWins(wins("Producer A", 1990, 1991));
+        awardIntervalIndex.rebuild();
+
+        awardIntervalIndex.movieChanged(
+            new Movie(1991, "Movie", "Studio", "Producer A", true),
+            new Movie(1995, "Movie", "Studio", "Producer A", true));
+
+        assertEquals(5, awardIntervalIndex.getIntervals().getMin().get(0).getInterval());
+    }
+
+    @Test
+    void testMovieAdded_BeforeFirstBuildRebuildsFromDatabase() {
+        givenWins(wins("Producer A", 1990, 1992));
+
+        awardIntervalIndex.movieAdded(new Movie(1992, "Movie", "Studio", "Producer A", true));
+
+        assertEquals(2, awardIntervalIndex.getIntervals().getMin().get(0).getInterval());
+        verify(movieService, times(1)).loadWins(any());
+    }
+
+    @Test
+    void testComputeInDatabase_RecomputesProducersOnlyWhenWinnersChange() {
+        ReflectionTestUtils.setField(awardIntervalIndex, "computeInDatabase", true);
+        AwardIntervals fromDatabase = new AwardIntervals(
+            Collections.singletonList(new AwardInterval("Producer A", 1, 1990, 1991)), new ArrayList<>());
+        when(movieService.computeMinMaxIntervalsInDatabase()).thenReturn(fromDatabase);
+        when(movieService.loadWins(EnumSet.of(AwardDimension.STUDIOS)))
+            .thenAnswer(invocation -> byDimension(null, new NameWins()));
+        when(movieService.computeMinMaxIntervals(any(NameWins.class))).thenCallRealMethod();
+
+        assertEquals("Producer A", awardIntervalIndex.getIntervals().getMin().get(0).getName());
+        awardIntervalIndex.movieAdded(new Movie(1992, "Movie", "Studio", "Producer A", false));
+        awardIntervalIndex.movieAdded(new Movie(1992, "Movie", "Studio", "Producer A", true));
+        awardIntervalIndex.movieChanged(
+            new Movie(1992, "Movie", "Studio", "Producer A", true),
+            new Movie(1993, "Movie", "Studio", "Producer A", false));
+
+        verify(movieService, times(3)).computeMinMaxIntervalsInDatabase();
+        verify(movieService, never()).loadWins(EnumSet.allOf(AwardDimension.class));
+        verify(movieService, times(1)).loadWins(EnumSet.of(AwardDimension.STUDIOS));
+    }
+
+    @Test
+    void testComputeInDatabase_UpdatesStudiosIncrementally() {
+        ReflectionTestUtils.setField(awardIntervalIndex, "computeInDatabase", true);
+        when(movieService.computeMinMaxIntervalsInDatabase())
+            .thenReturn(new AwardIntervals(new ArrayList<>(), new ArrayList<>()));
+        when(movieService.loadWins(EnumSet.of(AwardDimension.STUDIOS)))
+            .thenAnswer(invocation -> byDimension(null, wins("Studio A", 1990, 2000)));
+        when(movieService.computeMinMaxIntervals(any(NameWins.class))).thenCallRealMethod();
+        awardIntervalIndex.rebuild();
+
+        awardIntervalIndex.movieAdded(new Movie(1992, "Movie", "Studio A", "Producer A", true));
+
+        AwardInterval min = awardIntervalIndex.getSnapshot(AwardDimension.STUDIOS).getIntervals().getMin().get(0);
+        assertEquals(2, min.getInterval());
+        assertEquals(1990, min.getPreviousWin());
+        verify(movieService, times(1)).loadWins(any());
+    }
+
+    @Test
+    void testRebuild_PublishesEveryDimensionFromOneLoad() {
+        when(movieService.loadWins(EnumSet.allOf(AwardDimension.class)))
+            .thenReturn(byDimension(wins("Producer A", 1990, 2000), wins("Studio A", 1990, 1992)));
+        when(movieService.computeMinMaxIntervals(any(NameWins.class))).thenCallRealMethod();
+
+        awardIntervalIndex.rebuild();
+
+        assertEquals("Producer A", awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS).getIntervals().getMin().get(0).getName());
+        AwardIntervalSnapshot studios = awardIntervalIndex.getSnapshot(AwardDimension.STUDIOS);
+        assertEquals("Studio A", studios.getIntervals().getMin().get(0).getName());
+        assertNotEquals(studios.getETag(), awardIntervalIndex.getSnapshot().getETag());
+        verify(movieService, times(1)).loadWins(any());
+    }
+
+    @Test
+    void testMovieAdded_UpdatesStudiosIncrementally() {
+        when(movieService.loadWins(any()))
+            .thenReturn(byDimension(wins("Producer A", 1990), wins("Studio A", 1990, 2000)));
+        when(movieService.computeMinMaxIntervals(any(NameWins.class))).thenCallRealMethod();
+        awardIntervalIndex.rebuild();
+
+        awardIntervalIndex.movieAdded(new Movie(1994, "Movie", "Studio A, Studio B", "Producer C", true));
+
+        AwardIntervals studios = awardIntervalIndex.getSnapshot(AwardDimension.STUDIOS).getIntervals();
+        assertEquals(4, studios.getMin().get(0).getInterval());
+        assertEquals(6, studios.getMax().get(0).getInterval());
+        assertEquals(6, awardIntervalIndex.getTopIntervals(AwardDimension.STUDIOS, 5).getLongest().get(0).getInterval());
+        assertTrue(awardIntervalIndex.getIntervals().getMin().isEmpty());
+    }
+
+    @Test
+    void testGetIntervalsInRange_ReflectsIncrementalChanges() {
+        givenWins(wins("Producer A", 1980, 1990, 2000, 2020));
+
+        AwardIntervals before = awardIntervalIndex.getIntervals(AwardDimension.PRODUCERS, 1985, 2005);
+        assertEquals(10, before.getMin().get(0).getInterval());
+        assertEquals(1990, before.getMin().get(0).getPreviousWin());
+
+        awardIntervalIndex.movieAdded(new Movie(1993, "Movie", "Studio", "Producer A", true));
+
+        AwardIntervals after = awardIntervalIndex.getIntervals(AwardDimension.PRODUCERS, 1985, 2005);
+        assertEquals(3, after.getMin().get(0).getInterval());
+        assertEquals(7, after.getMax().get(0).getInterval());
+        verify(movieService, times(1)).loadWins(any());
+    }
+
+    @Test
+    void testGetIntervalsInRange_BuildsRangeIndexOnlyOnFirstRangeQuery() {
+        givenWins(wins("Producer A", 1980, 1990, 2000));
+        awardIntervalIndex.getIntervals();
+        awardIntervalIndex.movieAdded(new Movie(1995, "Movie", "Studio", "Producer A", true));
+
+        IntervalQueries queries = awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS).getQueries();
+        assertFalse(queries.isRangeBuilt());
+
+        awardIntervalIndex.movieAdded(new Movie(2010, "Movie", "Studio", "Producer A", true));
+        AwardIntervals result = queries.between(1980, 2005);
+
+        assertTrue(queries.isRangeBuilt());
+        assertEquals(5, result.getMin().get(0).getInterval());
+        assertEquals(2, result.getMin().size());
+        assertEquals(10, result.getMax().get(0).getInterval());
+    }
+
+    @Test
+    void testRestore_PublishesSnapshotIntervalsWithoutDatabase() {
+        Map<AwardDimension, AwardIntervals> intervals = new EnumMap<>(AwardDimension.class);
+        intervals.put(AwardDimension.PRODUCERS, new AwardIntervals(
+            Collections.singletonList(new AwardInterval("Producer A", 10, 1990, 2000)),
+            Collections.singletonList(new AwardInterval("Producer A", 10, 1990, 2000))));
+        intervals.put(AwardDimension.STUDIOS, new AwardIntervals(new ArrayList<>(), new ArrayList<>()));
+
+        awardIntervalIndex.restore(byDimension(wins("Producer A", 1990, 2000), new NameWins()), intervals);
+
+        assertEquals("Producer A", awardIntervalIndex.getIntervals().getMin().get(0).getName());
+        assertFalse(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS).hasQueries());
+        assertEquals(10, awardIntervalIndex.getTopIntervals(1).getLongest().get(0).getInterval());
+        assertEquals(1.0, meterRegistry.get("awards.intervals.computed").tag("mode", "snapshot").counter().count());
+        verifyNoInteractions(movieService);
+    }
+
+    @Test
+    void testRestore_IncrementalUpdatesStartFromRestoredWins() {
+        Map<AwardDimension, AwardIntervals> intervals = new EnumMap<>(AwardDimension.class);
+        for (AwardDimension dimension : AwardDimension.values()) {
+            intervals.put(dimension, new AwardIntervals(new ArrayList<>(), new ArrayList<>()));
+        }
+        awardIntervalIndex.restore(byDimension(wins("Producer A", 1990, 2000), new NameWins()), intervals);
+
+        AwardIntervalSnapshot restored = awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS);
+
+        awardIntervalIndex.movieAdded(new Movie(1994, "Movie", "Studio", "Producer A", true));
+
+        assertEquals(10, restored.getQueries().top(1).getShortest().get(0).getInterval());
+        assertEquals(10, restored.getQueries().between(1990, 2000).getMin().get(0).getInterval());
+        AwardIntervals after = awardIntervalIndex.getIntervals();
+        assertEquals(4, after.getMin().get(0).getInterval());
+        assertEquals(6, after.getMax().get(0).getInterval());
+        verify(movieService, never()).loadWins(any());
+    }
+
+    private void givenWins(NameWins wins) {
+        when(movieService.loadWins(any())).thenReturn(byDimension(wins, new NameWins()));
+        when(movieService.computeMinMaxIntervals(any(NameWins.class))).thenCallRealMethod();
+    }
+
+    private static Map<AwardDimension, NameWins> byDimension(NameWins producers, NameWins studios) {
+        Map<AwardDimension, NameWins> wins = new EnumMap<>(AwardDimension.class);
+        if (producers != null) {
+            wins.put(AwardDimension.PRODUCERS, producers);
+        }
+        wins.put(AwardDimension.STUDIOS, studios);
+        return wins;
+    }
+
+    private static NameWins wins(String producer, Integer... years) {
+        NameWins wins = new NameWins();
+        for (Integer year : years) {
+            wins.add(producer, year);
+        }
+        return wins;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.service;
+
+/**
+ * Fotografias para testes de outros pacotes, com os intervalos e as consultas calculados dos mesmos anos.
+ */
+public final class AwardIntervalSnapshots {
+
+    private AwardIntervalSnapshots() {
+    }
+
+    public static AwardIntervalSnapshot of(String datasetId, long version, NameWins wins) {
+        return new AwardIntervalSnapshot(datasetId, version, new MovieService(null, null).computeMinMaxIntervals(wins),
+            IntervalQueries.of(wins));
+    }
+}
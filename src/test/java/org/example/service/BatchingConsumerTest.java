@@ -0,0 +1,53 @@
+package org.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchingConsumerTest {
+
+    @Test
+    void testAccept_DeliversFullBatches() {
+        List<List<Integer>> batches = new ArrayList<>();
+        BatchingConsumer<Integer> consumer = new BatchingConsumer<>(2, batches::add);
+
+        consumer.accept(1);
+        consumer.accept(2);
+        consumer.accept(3);
+
+        assertEquals(1, batches.size());
+        assertEquals(Arrays.asList(1, 2), batches.get(0));
+    }
+
+    @Test
+    void testFlush_DeliversRemainingItems() {
+        List<List<Integer>> batches = new ArrayList<>();
+        BatchingConsumer<Integer> consumer = new BatchingConsumer<>(2, batches::add);
+
+        consumer.accept(1);
+        consumer.accept(2);
+        consumer.accept(3);
+        consumer.flush();
+
+        assertEquals(2, batches.size());
+        assertEquals(Arrays.asList(3), batches.get(1));
+    }
+
+    @Test
+    void testFlush_WithoutItemsDoesNothing() {
+        List<List<Integer>> batches = new ArrayList<>();
+
+        new BatchingConsumer<Integer>(2, batches::add).flush();
+
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void testConstructor_RejectsInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchingConsumer<Integer>(0, batch -> { }));
+    }
+}
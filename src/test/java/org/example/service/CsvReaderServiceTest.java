@@ -8,6 +8,7 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -206,4 +207,23 @@ class CsvReaderServiceTest {
             assertNotNull(movie.getWinner(), "Filme deve ter status de vencedor");
         }
     }
+
+    @Test
+    void testReadMovies_StreamsEveryMovieToConsumer() {
+        List<Movie> streamed = new ArrayList<>();
+
+        long rows = csvReaderService.readMovies(streamed::add);
+
+        assertEquals(streamed.size(), rows);
+        assertEquals(csvReaderService.readMoviesFromCsv().size(), streamed.size());
+    }
+
+    @Test
+    void testReadMovies_UsesClasspathResourceWhenFileIsMissing() {
+        ReflectionTestUtils.setField(csvReaderService, "csvFilePath", "arquivo/inexistente.csv");
+
+        List<Movie> movies = csvReaderService.readMoviesFromCsv();
+
+        assertFalse(movies.isEmpty(), "Deve ler o CSV do classpath quando o arquivo não existe");
+    }
 }
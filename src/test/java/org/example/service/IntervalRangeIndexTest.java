@@ -0,0 +1,134 @@
+package org.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalRangeIndexTest {
+
+    @Test
+    void testMinMax_OnlyCountsWinsInsideRange() {
+        NameWins wins = new NameWins();
+        wins.add("Producer A", 1980);
+        wins.add("Producer A", 1990);
+        wins.add("Producer A", 1991);
+        wins.add("Producer A", 2010);
+        wins.add("Producer B", 1995);
+        wins.add("Producer B", 2005);
+
+        AwardIntervals result = new IntervalRangeIndex(wins).minMax(1985, 2005);
+
+        assertEquals(1, result.getMin().size());
+        assertInterval(result.getMin().get(0), "Producer A", 1, 1990, 1991);
+        assertEquals(1, result.getMax().size());
+        assertInterval(result.getMax().get(0), "Producer B", 10, 1995, 2005);
+    }
+
+    @Test
+    void testMinMax_RangeWithoutIntervalsIsEmpty() {
+        NameWins wins = new NameWins();
+        wins.add("Producer A", 1980);
+        wins.add("Producer A", 2000);
+
+        AwardIntervals result = new IntervalRangeIndex(wins).minMax(1981, 2020);
+
+        assertTrue(result.getMin().isEmpty());
+        assertTrue(result.getMax().isEmpty());
+        assertTrue(new IntervalRangeIndex(new NameWins()).minMax(1900, 2100).getMin().isEmpty());
+    }
+
+    @Test
+    void testMinMax_OpenRangeMatchesFullComputation() {
+        NameWins wins = randomWins(new Random(7), 40, 300);
+        MovieService movieService = new MovieService(null, null);
+
+        AwardIntervals expected = movieService.computeMinMaxIntervals(wins);
+        AwardIntervals result = new IntervalRangeIndex(wins).minMax(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        assertEquals(describe(expected.getMin()), describe(result.getMin()));
+        assertEquals(describe(expected.getMax()), describe(result.getMax()));
+    }
+
+    @Test
+    void testMinMax_RandomRangesMatchFilteredComputation() {
+        Random random = new Random(42);
+        NameWins wins = randomWins(random, 60, 800);
+        IntervalRangeIndex index = new IntervalRangeIndex(wins);
+        MovieService movieService = new MovieService(null, null);
+
+        for (int query = 0; query < 500; query++) {
+            int from = 1940 + random.nextInt(90);
+            int to = from + random.nextInt(40);
+
+            NameWins filtered = new NameWins();
+            for (int id = 0; id < wins.nameCount(); id++) {
+                for (int year : wins.years(id)) {
+                    if (year >= from && year <= to) {
+                        filtered.add(wins.getNames().nameOf(id), year);
+                    }
+                }
+            }
+            AwardIntervals expected = movieService.computeMinMaxIntervals(filtered);
+            AwardIntervals result = index.minMax(from, to);
+
+            assertEquals(describe(expected.getMin()), describe(result.getMin()), from + "-" + to);
+            assertEquals(describe(expected.getMax()), describe(result.getMax()), from + "-" + to);
+        }
+    }
+
+    @Test
+    void testMinMax_LargeIndexMatchesFilteredComputation() {
+        Random random = new Random(2024);
+        NameWins wins = randomWins(random, 500, 5000);
+        IntervalRangeIndex index = new IntervalRangeIndex(wins);
+        MovieService movieService = new MovieService(null, null);
+
+        for (int query = 0; query < 100; query++) {
+            int from = 1930 + random.nextInt(100);
+            int to = from + random.nextInt(80);
+
+            NameWins filtered = new NameWins();
+            for (int id = 0; id < wins.nameCount(); id++) {
+                for (int year : wins.years(id)) {
+                    if (year >= from && year <= to) {
+                        filtered.add(wins.getNames().nameOf(id), year);
+                    }
+                }
+            }
+            AwardIntervals expected = movieService.computeMinMaxIntervals(filtered);
+            AwardIntervals result = index.minMax(from, to);
+
+            assertEquals(describe(expected.getMin()), describe(result.getMin()), from + "-" + to);
+            assertEquals(describe(expected.getMax()), describe(result.getMax()), from + "-" + to);
+        }
+    }
+
+    private static NameWins randomWins(Random random, int producers, int wins) {
+        NameWins result = new NameWins();
+        for (int i = 0; i < wins; i++) {
+            result.add("Producer " + random.nextInt(producers), 1950 + random.nextInt(70));
+        }
+        result.sortYears();
+        return result;
+    }
+
+    private static List<String> describe(List<AwardInterval> intervals) {
+        List<String> described = new ArrayList<>();
+        for (AwardInterval interval : intervals) {
+            described.add(interval.getName() + ":" + interval.getInterval() + ":"
+                + interval.getPreviousWin() + "-" + interval.getFollowingWin());
+        }
+        return described;
+    }
+
+    private static void assertInterval(AwardInterval interval, String producer, int size, int previous, int following) {
+        assertEquals(producer, interval.getName());
+        assertEquals(size, interval.getInterval());
+        assertEquals(previous, interval.getPreviousWin());
+        assertEquals(following, interval.getFollowingWin());
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalRankingTest {
+
+    @Test
+    void testTop_RanksShortestAndLongest() {
+        NameWins wins = new NameWins();
+        wins.add("Producer A", 1990);
+        wins.add("Producer A", 1991);
+        wins.add("Producer A", 2000);
+        wins.add("Producer B", 1980);
+        wins.add("Producer B", 2010);
+
+        AwardIntervalRanking ranking = IntervalRanking.top(wins, 2);
+
+        assertEquals(Arrays.asList("Producer A:1:1990", "Producer A:9:1991"), describe(ranking.getShortest()));
+        assertEquals(Arrays.asList("Producer B:30:1980", "Producer A:9:1991"), describe(ranking.getLongest()));
+        assertEquals(2010, ranking.getLongest().get(0).getFollowingWin());
+    }
+
+    @Test
+    void testTop_FewerIntervalsThanK() {
+        NameWins wins = new NameWins();
+        wins.add("Producer A", 1990);
+        wins.add("Producer A", 1995);
+        wins.add("Producer B", 1990);
+
+        AwardIntervalRanking ranking = IntervalRanking.top(wins, 10);
+
+        assertEquals(1, ranking.getShortest().size());
+        assertEquals(1, ranking.getLongest().size());
+    }
+
+    @Test
+    void testTop_MatchesFullSortOnRandomInput() {
+        Random random = new Random(3);
+        for (int round = 0; round < 200; round++) {
+            NameWins wins = new NameWins();
+            int producers = 1 + random.nextInt(30);
+            for (int i = random.nextInt(200); i > 0; i--) {
+                wins.add("Producer " + random.nextInt(producers), 1950 + random.nextInt(70));
+            }
+            int k = 1 + random.nextInt(15);
+
+            List<int[]> all = new ArrayList<>();
+            for (int producer = 0; producer < wins.nameCount(); producer++) {
+                int[] years = wins.years(producer);
+                for (int i = 1; i < years.length; i++) {
+                    all.add(new int[]{years[i] - years[i - 1], producer, years[i - 1]});
+                }
+            }
+            Comparator<int[]> byTieBreak = Comparator.<int[], String>comparing(a -> wins.getNames().nameOf(a[1]))
+                .thenComparingInt(a -> a[2]);
+            all.sort(Comparator.<int[]>comparingInt(a -> a[0]).thenComparing(byTieBreak));
+            List<int[]> expectedShortest = new ArrayList<>(all.subList(0, Math.min(k, all.size())));
+            all.sort(Comparator.<int[]>comparingInt(a -> -a[0]).thenComparing(byTieBreak));
+            List<int[]> expectedLongest = new ArrayList<>(all.subList(0, Math.min(k, all.size())));
+
+            AwardIntervalRanking ranking = IntervalRanking.top(wins, k);
+
+            assertEquals(describe(expectedShortest, wins), describe(ranking.getShortest()));
+            assertEquals(describe(expectedLongest, wins), describe(ranking.getLongest()));
+        }
+    }
+
+    private static List<String> describe(List<int[]> intervals, NameWins wins) {
+        List<String> described = new ArrayList<>();
+        for (int[] interval : intervals) {
+            described.add(wins.getNames().nameOf(interval[1]) + ":" + interval[0] + ":" + interval[2]);
+        }
+        return described;
+    }
+
+    private static List<String> describe(List<AwardInterval> intervals) {
+        List<String> described = new ArrayList<>();
+        for (AwardInterval interval : intervals) {
+            described.add(interval.getName() + ":" + interval.getInterval() + ":" + interval.getPreviousWin());
+        }
+        return described;
+    }
+}
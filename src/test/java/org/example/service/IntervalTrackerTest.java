@@ -0,0 +1,224 @@
+package org.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTrackerTest {
+
+    @Test
+    void testToAwardsIntervals_FromInitialWins() {
+        IntervalTracker tracker = new IntervalTracker(wins(
+            "Producer A", Arrays.asList(1990, 1991),
+            "Producer B", Arrays.asList(2015, 2002)));
+
+        AwardIntervals result = tracker.toAwardIntervals();
+
+        assertInterval(result.getMin().get(0), "Producer A", 1, 1990, 1991);
+        assertInterval(result.getMax().get(0), "Producer B", 13, 2002, 2015);
+    }
+
+    @Test
+    void testToAwardsIntervals_WithoutIntervals() {
+        IntervalTracker tracker = new IntervalTracker(wins("Producer A", Arrays.asList(1990)));
+
+        AwardIntervals result = tracker.toAwardIntervals();
+
+        assertTrue(result.getMin().isEmpty());
+        assertTrue(result.getMax().isEmpty());
+    }
+
+    @Test
+    void testAddWin_SplitsExistingInterval() {
+        IntervalTracker tracker = new IntervalTracker(wins("Producer A", Arrays.asList(1990, 2000)));
+
+        tracker.addWin("Producer A", 1993);
+
+        AwardIntervals result = tracker.toAwardIntervals();
+        assertEquals(1, result.getMin().size());
+        assertInterval(result.getMin().get(0), "Producer A", 3, 1990, 1993);
+        assertInterval(result.getMax().get(0), "Producer A", 7, 1993, 2000);
+    }
+
+    @Test
+    void testAddWin_NewProducer() {
+        IntervalTracker tracker = new IntervalTracker(new NameWins());
+
+        tracker.addWin("Producer A", 2000);
+        tracker.addWin("Producer A", 1995);
+
+        assertInterval(tracker.toAwardIntervals().getMin().get(0), "Producer A", 5, 1995, 2000);
+    }
+
+    @Test
+    void testRemoveWin_MergesNeighbourIntervals() {
+        IntervalTracker tracker = new IntervalTracker(wins("Producer A", Arrays.asList(1990, 1991, 2000)));
+
+        assertTrue(tracker.removeWin("Producer A", 1991));
+
+        AwardIntervals result = tracker.toAwardIntervals();
+        assertEquals(1, result.getMin().size());
+        assertInterval(result.getMin().get(0), "Producer A", 10, 1990, 2000);
+    }
+
+    @Test
+    void testRemoveWin_UnknownWinIsIgnored() {
+        IntervalTracker tracker = new IntervalTracker(wins("Producer A", Arrays.asList(1990, 1991)));
+
+        assertFalse(tracker.removeWin("Producer A", 1995));
+        assertFalse(tracker.removeWin("Producer B", 1990));
+        assertEquals(1, tracker.toAwardIntervals().getMin().size());
+    }
+
+    @Test
+    void testRemoveWin_LastIntervalLeavesEmptyResult() {
+        IntervalTracker tracker = new IntervalTracker(wins("Producer A", Arrays.asList(1990, 1991)));
+
+        tracker.removeWin("Producer A", 1990);
+
+        assertTrue(tracker.toAwardIntervals().getMin().isEmpty());
+    }
+
+    @Test
+    void testFrozen_KeepsYearsOfThatMoment() {
+        IntervalTracker tracker = new IntervalTracker(wins("Producer A", Arrays.asList(1990, 2000)));
+
+        WinYears frozen = tracker.frozen();
+        tracker.addWin("Producer A", 1995);
+        tracker.removeWin("Producer A", 2000);
+        tracker.addWin("Producer B", 2001);
+
+        assertEquals(1, frozen.nameCount());
+        assertEquals("Producer A", frozen.nameOf(0));
+        assertEquals(2, frozen.winCount(0));
+        assertEquals(1990, frozen.year(0, 0));
+        assertEquals(2000, frozen.year(0, 1));
+        assertEquals(2, tracker.winCount(0));
+        assertEquals(1995, tracker.year(0, 1));
+    }
+
+    @Test
+    void testRepeatedYearsAreKept() {
+        IntervalTracker tracker = new IntervalTracker(wins("Producer A", Arrays.asList(1990, 1990)));
+        tracker.addWin("Producer A", 1990);
+
+        assertEquals(2, tracker.toAwardIntervals().getMin().size());
+
+        tracker.removeWin("Producer A", 1990);
+
+        assertEquals(1, tracker.toAwardIntervals().getMin().size());
+        assertEquals(0, tracker.toAwardIntervals().getMin().get(0).getInterval());
+    }
+
+    @Test
+    void testToAwardsIntervals_TieOrderMatchesFullComputationAfterUpdate() {
+        IntervalTracker tracker = new IntervalTracker(wins(
+            "Producer A", Arrays.asList(2000, 2001),
+            "Producer B", Arrays.asList(1990, 1991)));
+
+        tracker.addWin("Producer A", 1980);
+        tracker.addWin("Producer A", 1981);
+
+        NameWins same = new NameWins(tracker.getNames());
+        for (int id = 0; id < tracker.getNames().size(); id++) {
+            for (int i = 0; i < tracker.winCount(id); i++) {
+                same.add(id, tracker.year(id, i));
+            }
+        }
+        List<AwardInterval> expected = new MovieService(null, null).computeMinMaxIntervals(same).getMin();
+        List<AwardInterval> incremental = tracker.toAwardIntervals().getMin();
+        assertEquals(3, incremental.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getName(), incremental.get(i).getName());
+            assertEquals(expected.get(i).getPreviousWin(), incremental.get(i).getPreviousWin());
+        }
+        assertInterval(incremental.get(1), "Producer A", 1, 2000, 2001);
+    }
+
+    @Test
+    void testIncrementalUpdatesMatchFullRecomputation() {
+        Random random = new Random(42);
+        Map<String, List<Integer>> expected = new HashMap<>();
+        IntervalTracker tracker = new IntervalTracker(new NameWins());
+        MovieService movieService = new MovieService(null, null);
+
+        for (int step = 0; step < 2000; step++) {
+            String producer = "Producer " + random.nextInt(30);
+            int year = 1950 + random.nextInt(70);
+            List<Integer> years = expected.computeIfAbsent(producer, k -> new ArrayList<>());
+            if (!years.isEmpty() && random.nextInt(3) == 0) {
+                Integer removed = years.remove(random.nextInt(years.size()));
+                assertTrue(tracker.removeWin(producer, removed));
+            } else {
+                years.add(year);
+                tracker.addWin(producer, year);
+            }
+            Collections.sort(years);
+
+            AwardIntervals full = movieService.computeMinMaxIntervals(sorted(expected));
+            AwardIntervals incremental = tracker.toAwardIntervals();
+            assertEquals(describe(full.getMin()), describe(incremental.getMin()));
+            assertEquals(describe(full.getMax()), describe(incremental.getMax()));
+        }
+    }
+
+    @Test
+    void testTop_MatchesBoundedHeapRankingAfterUpdates() {
+        Random random = new Random(11);
+        IntervalTracker tracker = new IntervalTracker(new NameWins());
+
+        for (int step = 0; step < 500; step++) {
+            String producer = "Producer " + random.nextInt(20);
+            int year = 1950 + random.nextInt(40);
+            if (random.nextInt(3) == 0) {
+                tracker.removeWin(producer, year);
+            } else {
+                tracker.addWin(producer, year);
+            }
+
+            int k = random.nextInt(12);
+            AwardIntervalRanking expected = IntervalRanking.top(tracker, k);
+            AwardIntervalRanking ranking = tracker.top(k);
+            assertEquals(describe(expected.getShortest()), describe(ranking.getShortest()));
+            assertEquals(describe(expected.getLongest()), describe(ranking.getLongest()));
+        }
+    }
+
+    private static NameWins wins(Object... producersAndYears) {
+        NameWins wins = new NameWins();
+        for (int i = 0; i < producersAndYears.length; i += 2) {
+            @SuppressWarnings("unchecked")
+            List<Integer> years = (List<Integer>) producersAndYears[i + 1];
+            for (Integer year : years) {
+                wins.add((String) producersAndYears[i], year);
+            }
+        }
+        return wins;
+    }
+
+    private static NameWins sorted(Map<String, List<Integer>> namesAndYears) {
+        NameWins wins = new NameWins();
+        namesAndYears.forEach((producer, years) -> years.forEach(year -> wins.add(producer, year)));
+        wins.sortYears();
+        return wins;
+    }
+
+    private static List<String> describe(List<AwardInterval> intervals) {
+        List<String> described = new ArrayList<>();
+        for (AwardInterval interval : intervals) {
+            described.add(interval.getName() + ":" + interval.getInterval() + ":"
+                + interval.getPreviousWin() + "-" + interval.getFollowingWin());
+        }
+        Collections.sort(described);
+        return described;
+    }
+
+    private static void assertInterval(AwardInterval interval, String producer, int size, int previous, int following) {
+        assertEquals(producer, interval.getName());
+        assertEquals(size, interval.getInterval());
+        assertEquals(previous, interval.getPreviousWin());
+        assertEquals(following, interval.getFollowingWin());
+    }
+}
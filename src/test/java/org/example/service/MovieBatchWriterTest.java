@@ -0,0 +1,83 @@
+package org.example.service;
+
+import org.example.model.Movie;
+import org.example.model.MovieProducer;
+import org.example.repository.MovieProducerRepository;
+import org.example.repository.MovieRepository;
+import org.example.repository.ProducerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({MovieBatchWriter.class, ProducerCatalogService.class})
+@TestPropertySource(locations = "classpath:application-test.properties")
+class MovieBatchWriterTest {
+
+    @Autowired
+    private MovieBatchWriter movieBatchWriter;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private MovieProducerRepository movieProducerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testWrite_PersistsMoviesWithSequenceIds() {
+        List<Movie> movies = Arrays.asList(
+            new Movie(1990, "Movie 1", "Studio", "Producer A", true),
+            new Movie(1991, "Movie 2", "Studio", "Producer B", false)
+        );
+
+        movieBatchWriter.write(movies);
+
+        assertNotNull(movies.get(0).getId());
+        assertNotNull(movies.get(1).getId());
+        assertEquals(2, movieRepository.count());
+    }
+
+    @Test
+    void testWrite_ClearsPersistenceContextAfterBatch() {
+        Movie movie = new Movie(1990, "Movie", "Studio", "Producer A", true);
+
+        movieBatchWriter.write(Arrays.asList(movie));
+
+        assertFalse(entityManager.contains(movie));
+    }
+
+    @Test
+    void testWrite_LinksProducersAcrossBatches() {
+        movieBatchWriter.write(Arrays.asList(new Movie(1990, "Movie 1", "Studio", "Producer A and Producer B", true)));
+        movieBatchWriter.write(Arrays.asList(new Movie(1999, "Movie 2", "Studio", "Producer A", true)));
+
+        assertEquals(2, producerRepository.findByNameIn(Arrays.asList("Producer A", "Producer B")).size());
+        assertEquals(3, movieProducerRepository.count());
+        assertEquals(Arrays.asList(1990, 1999), winningYears("Producer A"));
+    }
+
+    private List<Integer> winningYears(String producer) {
+        Long id = producerRepository.findByNameIn(Collections.singletonList(producer)).get(0).getId();
+        return movieProducerRepository.findAll().stream()
+            .filter(link -> link.getProducer().getId().equals(id) && link.getWinner())
+            .map(MovieProducer::getMovieYear)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+}
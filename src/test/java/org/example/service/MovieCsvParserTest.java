@@ -0,0 +1,172 @@
+package org.example.service;
+
+import org.example.model.Movie;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieCsvParserTest {
+
+    private static final String HEADER = "year;title;studios;producers;winner\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testParse_ReadsAllFieldsAndSkipsHeader() throws IOException {
+        List<Movie> movies = parse(HEADER + "1980;Can't Stop the Music;Associated Film Distribution;Allan Carr;yes\n");
+
+        assertEquals(1, movies.size());
+        Movie movie = movies.get(0);
+        assertEquals(1980, movie.getYear());
+        assertEquals("Can't Stop the Music", movie.getTitle());
+        assertEquals("Associated Film Distribution", movie.getStudios());
+        assertEquals("Allan Carr", movie.getProducers());
+        assertTrue(movie.getWinner());
+    }
+
+    @Test
+    void testParse_EmptyWinnerFieldIsNotWinner() throws IOException {
+        List<Movie> movies = parse(HEADER + "1980;Cruising;Lorimar Productions;Jerry Weintraub;\n");
+
+        assertEquals(1, movies.size());
+        assertFalse(movies.get(0).getWinner());
+    }
+
+    @Test
+    void testParse_WinnerIsCaseInsensitiveAndTrimmed() throws IOException {
+        List<Movie> movies = parse(HEADER + "1980;A;S;P; YES \n1981;B;S;P;Yes\n1982;C;S;P;no\n");
+
+        assertTrue(movies.get(0).getWinner());
+        assertTrue(movies.get(1).getWinner());
+        assertFalse(movies.get(2).getWinner());
+    }
+
+    @Test
+    void testParse_TrimsFieldsAndHandlesCrLf() throws IOException {
+        List<Movie> movies = parse(HEADER + " 1990 ;  Title  ; Studio ; Producer ;yes\r\n");
+
+        Movie movie = movies.get(0);
+        assertEquals(1990, movie.getYear());
+        assertEquals("Title", movie.getTitle());
+        assertEquals("Studio", movie.getStudios());
+        assertEquals("Producer", movie.getProducers());
+        assertTrue(movie.getWinner());
+    }
+
+    @Test
+    void testParse_LastLineWithoutLineBreak() throws IOException {
+        List<Movie> movies = parse(HEADER + "1990;A;S;P;yes\n1991;B;S;P;yes");
+
+        assertEquals(2, movies.size());
+        assertEquals(1991, movies.get(1).getYear());
+    }
+
+    @Test
+    void testParse_SkipsLinesWithLessThanFiveFields() throws IOException {
+        List<Movie> movies = parse(HEADER + "1990;A;S\n\n1991;B;S;P;yes\n");
+
+        assertEquals(1, movies.size());
+        assertEquals(1991, movies.get(0).getYear());
+    }
+
+    @Test
+    void testParse_DecodesUtf8() throws IOException {
+        List<Movie> movies = parse(HEADER + "1990;Ação;Estúdio;José e João;yes\n");
+
+        assertEquals("Ação", movies.get(0).getTitle());
+        assertEquals("José e João", movies.get(0).getProducers());
+    }
+
+    @Test
+    void testParse_InvalidYearReportsLineNumber() {
+        NumberFormatException exception = assertThrows(NumberFormatException.class,
+            () -> parse(HEADER + "1990;A;S;P;yes\nabc;B;S;P;yes\n"));
+
+        assertTrue(exception.getMessage().contains("linha 3"));
+    }
+
+    @Test
+    void testParse_LinesSplitAcrossStreamReads() throws IOException {
+        byte[] content = (HEADER + "1990;A;S;P;yes\n1991;B;S;P;\n").getBytes(StandardCharsets.UTF_8);
+        List<Movie> movies = new ArrayList<>();
+
+        long rows = new MovieCsvParser(movies::add).parse(new OneByteInputStream(content));
+
+        assertEquals(2, rows);
+        assertEquals(1991, movies.get(1).getYear());
+        assertFalse(movies.get(1).getWinner());
+    }
+
+    @Test
+    void testParse_LineLongerThanStreamBuffer() throws IOException {
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            title.append('x');
+        }
+        List<Movie> movies = parse(HEADER + "1990;" + title + ";S;P;yes\n");
+
+        assertEquals(100_000, movies.get(0).getTitle().length());
+    }
+
+    @Test
+    void testParse_MemoryMappedFile() throws IOException {
+        Path file = tempDir.resolve("movies.csv");
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 1000; i++) {
+            csv.append(1900 + i % 100).append(";Movie ").append(i).append(";Studio;Producer ").append(i).append(";yes\n");
+        }
+        Files.write(file, csv.toString().getBytes(StandardCharsets.UTF_8));
+        List<Movie> movies = new ArrayList<>();
+
+        long rows;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            rows = new MovieCsvParser(movies::add).parse(channel);
+        }
+
+        assertEquals(1000, rows);
+        assertEquals("Movie 999", movies.get(999).getTitle());
+        assertEquals("Producer 999", movies.get(999).getProducers());
+    }
+
+    private List<Movie> parse(String csv) throws IOException {
+        List<Movie> movies = new ArrayList<>();
+        new MovieCsvParser(movies::add).parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        return movies;
+    }
+
+    private static class OneByteInputStream extends InputStream {
+        private final byte[] content;
+        private int position;
+
+        OneByteInputStream(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public int read() {
+            return position < content.length ? content[position++] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= content.length) {
+                return -1;
+            }
+            b[off] = content[position++];
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.service;
+
+import org.example.dto.IngestResultDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovieImportServiceTest {
+
+    private static final String CSV = "year;title;studios;producers;winner\n1990;Movie;Studio;Producer A;yes\n";
+
+    @Mock
+    private ParallelCsvIngestService parallelCsvIngestService;
+
+    @Mock
+    private AwardIntervalIndex awardIntervalIndex;
+
+    @Test
+    void testImportCsv_IngestsAndRebuildsIndex() throws IOException {
+        MovieImportService importService = new MovieImportService(parallelCsvIngestService, awardIntervalIndex, 1);
+        IngestResultDTO result = new IngestResultDTO(1L, 0L, new ArrayList<>(), 1L);
+        when(parallelCsvIngestService.ingest(any(InputStream.class))).thenReturn(result);
+
+        assertSame(result, importService.importCsv(new ByteArrayInputStream(bytes(CSV))).orElse(null));
+
+        verify(awardIntervalIndex, times(1)).rebuild();
+    }
+
+    @Test
+    void testImportCsv_RebuildsIndexEvenWhenIngestFails() {
+        MovieImportService importService = new MovieImportService(parallelCsvIngestService, awardIntervalIndex, 1);
+        when(parallelCsvIngestService.ingest(any(InputStream.class))).thenThrow(new IllegalStateException("falha"));
+
+        assertThrows(IllegalStateException.class, () -> importService.importCsv(new ByteArrayInputStream(bytes(CSV))));
+
+        verify(awardIntervalIndex, times(1)).rebuild();
+    }
+
+    @Test
+    void testImportCsv_RejectsWhenLimitReached() throws Exception {
+        MovieImportService importService = new MovieImportService(parallelCsvIngestService, awardIntervalIndex, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(parallelCsvIngestService.ingest(any(InputStream.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new IngestResultDTO(0L, 0L, new ArrayList<>(), 0L);
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<IngestResultDTO>> first = executor.submit(
+                () -> importService.importCsv(new ByteArrayInputStream(bytes(CSV))));
+            started.await();
+
+            assertFalse(importService.importCsv(new ByteArrayInputStream(bytes(CSV))).isPresent());
+
+            release.countDown();
+            assertTrue(first.get().isPresent());
+            assertTrue(importService.importCsv(new ByteArrayInputStream(bytes(CSV))).isPresent());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDecompressed_DetectsGzipByMagicBytes() throws IOException {
+        assertArrayEquals(bytes(CSV), MovieImportService.decompressed(new ByteArrayInputStream(gzip(CSV))).readAllBytes());
+        assertArrayEquals(bytes(CSV), MovieImportService.decompressed(new ByteArrayInputStream(bytes(CSV))).readAllBytes());
+        assertEquals(0, MovieImportService.decompressed(new ByteArrayInputStream(new byte[0])).readAllBytes().length);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(String value) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes(value));
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.service;
+
+import org.example.dto.MovieDTO;
+import org.example.dto.MoviePageDTO;
+import org.example.repository.MovieRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MovieListingServiceTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @InjectMocks
+    private MovieListingService movieListingService;
+
+    @Test
+    void testList_FirstPageWithNextCursor() {
+        when(movieRepository.findPageAfter(Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MIN_VALUE, PageRequest.of(0, 3)))
+            .thenReturn(new ArrayList<>(Arrays.asList(movie(1L, 1980), movie(2L, 1980), movie(3L, 1981))));
+
+        MoviePageDTO page = movieListingService.list(null, null, null, null, 2);
+
+        assertEquals(2, page.getMovies().size());
+        assertEquals(MovieListingService.encodeCursor(1980, 2L), page.getNextCursor());
+    }
+
+    @Test
+    void testList_LastPageHasNoCursor() {
+        String cursor = MovieListingService.encodeCursor(1980, 2L);
+        when(movieRepository.findPageAfterByWinner(true, 1980, 1990, 1980, 2L, PageRequest.of(0, 3)))
+            .thenReturn(new ArrayList<>(Arrays.asList(movie(3L, 1981))));
+
+        MoviePageDTO page = movieListingService.list(1980, 1990, true, cursor, 2);
+
+        assertEquals(1, page.getMovies().size());
+        assertNull(page.getNextCursor());
+        verify(movieRepository, never()).findPageAfter(anyInt(), anyInt(), anyInt(), anyLong(), any());
+    }
+
+    @Test
+    void testList_InvalidCursorThrows() {
+        assertThrows(IllegalArgumentException.class, () -> movieListingService.list(null, null, null, "não-é-cursor", 2));
+        assertThrows(IllegalArgumentException.class, () -> movieListingService.list(null, null, null, "MTk4MA", 2));
+    }
+
+    @Test
+    void testCursor_RoundTrip() {
+        long[] key = MovieListingService.decodeCursor(MovieListingService.encodeCursor(-5, 123456789012L));
+
+        assertEquals(-5, key[0]);
+        assertEquals(123456789012L, key[1]);
+    }
+
+    private static MovieDTO movie(Long id, int year) {
+        return new MovieDTO(id, year, "Movie " + id, "Studio", "Producer", false);
+    }
+}
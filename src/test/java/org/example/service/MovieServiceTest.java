@@ -1,19 +1,26 @@
 package org.example.service;
 
-import org.example.dto.ProducerAwardsIntervalDTO;
-import org.example.dto.ProducerIntervalDTO;
 import org.example.model.Movie;
+import org.example.repository.MovieProducerRepository;
 import org.example.repository.MovieRepository;
+import org.example.repository.projection.ProducerIntervalProjection;
+import org.example.repository.projection.WinnerProjection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,6 +31,9 @@ class MovieServiceTest {
     @Mock
     private MovieRepository movieRepository;
 
+    @Mock
+    private MovieProducerRepository movieProducerRepository;
+
     @InjectMocks
     private MovieService movieService;
 
@@ -43,9 +53,9 @@ class MovieServiceTest {
         Movie movie4 = createMovie(2015, "Producer B", true);
         
         winnerMovies.addAll(Arrays.asList(movie1, movie2, movie3, movie4));
-        when(movieRepository.findByWinnerTrue()).thenReturn(winnerMovies);
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
 
-        ProducerAwardsIntervalDTO result = movieService.getProducersWithMinMaxAwardsInterval();
+        AwardIntervals result = movieService.getProducersWithMinMaxAwardsInterval();
 
         assertNotNull(result);
         assertNotNull(result.getMin());
@@ -54,44 +64,44 @@ class MovieServiceTest {
         assertEquals(1, result.getMin().size());
         assertEquals(1, result.getMax().size());
         
-        ProducerIntervalDTO minInterval = result.getMin().get(0);
-        assertEquals("Producer A", minInterval.getProducer());
+        AwardInterval minInterval = result.getMin().get(0);
+        assertEquals("Producer A", minInterval.getName());
         assertEquals(1, minInterval.getInterval());
         assertEquals(1990, minInterval.getPreviousWin());
         assertEquals(1991, minInterval.getFollowingWin());
         
-        ProducerIntervalDTO maxInterval = result.getMax().get(0);
-        assertEquals("Producer B", maxInterval.getProducer());
+        AwardInterval maxInterval = result.getMax().get(0);
+        assertEquals("Producer B", maxInterval.getName());
         assertEquals(13, maxInterval.getInterval());
         assertEquals(2002, maxInterval.getPreviousWin());
         assertEquals(2015, maxInterval.getFollowingWin());
         
-        verify(movieRepository, times(1)).findByWinnerTrue();
+        verify(movieRepository, times(1)).findWinners();
     }
 
     @Test
     void testGetProducersWithMinMaxAwardsInterval_WithSingleWin() {
         Movie movie1 = createMovie(1990, "Producer Single", true);
         winnerMovies.add(movie1);
-        when(movieRepository.findByWinnerTrue()).thenReturn(winnerMovies);
-        ProducerAwardsIntervalDTO result = movieService.getProducersWithMinMaxAwardsInterval();
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
+        AwardIntervals result = movieService.getProducersWithMinMaxAwardsInterval();
         assertNotNull(result);
         assertTrue(result.getMin().isEmpty());
         assertTrue(result.getMax().isEmpty());
         
-        verify(movieRepository, times(1)).findByWinnerTrue();
+        verify(movieRepository, times(1)).findWinners();
     }
 
     @Test
     void testGetProducersWithMinMaxAwardsInterval_WithNoWinners() {
-        when(movieRepository.findByWinnerTrue()).thenReturn(new ArrayList<>());
+        when(movieRepository.findWinners()).thenReturn(new ArrayList<>());
 
-        ProducerAwardsIntervalDTO result = movieService.getProducersWithMinMaxAwardsInterval();
+        AwardIntervals result = movieService.getProducersWithMinMaxAwardsInterval();
         assertNotNull(result);
         assertTrue(result.getMin().isEmpty());
         assertTrue(result.getMax().isEmpty());
         
-        verify(movieRepository, times(1)).findByWinnerTrue();
+        verify(movieRepository, times(1)).findWinners();
     }
 
     @Test
@@ -101,9 +111,9 @@ class MovieServiceTest {
         Movie movie3 = createMovie(2000, "Producer Multi", true);
         
         winnerMovies.addAll(Arrays.asList(movie1, movie2, movie3));
-        when(movieRepository.findByWinnerTrue()).thenReturn(winnerMovies);
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
 
-        ProducerAwardsIntervalDTO result = movieService.getProducersWithMinMaxAwardsInterval();
+        AwardIntervals result = movieService.getProducersWithMinMaxAwardsInterval();
 
         assertNotNull(result);
         assertNotNull(result.getMin());
@@ -113,11 +123,11 @@ class MovieServiceTest {
         assertEquals(2, result.getMax().size());
         
         result.getMin().forEach(interval -> {
-            assertEquals("Producer Multi", interval.getProducer());
+            assertEquals("Producer Multi", interval.getName());
             assertEquals(5, interval.getInterval());
         });
         
-        verify(movieRepository, times(1)).findByWinnerTrue();
+        verify(movieRepository, times(1)).findWinners();
     }
 
     @Test
@@ -127,24 +137,24 @@ class MovieServiceTest {
         Movie movie3 = createMovie(2000, "Producer B", true);
         
         winnerMovies.addAll(Arrays.asList(movie1, movie2, movie3));
-        when(movieRepository.findByWinnerTrue()).thenReturn(winnerMovies);
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
 
-        ProducerAwardsIntervalDTO result = movieService.getProducersWithMinMaxAwardsInterval();
+        AwardIntervals result = movieService.getProducersWithMinMaxAwardsInterval();
 
         assertNotNull(result);
         
         assertEquals(1, result.getMin().size());
         assertEquals(1, result.getMax().size());
         
-        ProducerIntervalDTO minInterval = result.getMin().get(0);
-        assertEquals("Producer A", minInterval.getProducer());
+        AwardInterval minInterval = result.getMin().get(0);
+        assertEquals("Producer A", minInterval.getName());
         assertEquals(5, minInterval.getInterval());
         
-        ProducerIntervalDTO maxInterval = result.getMax().get(0);
-        assertEquals("Producer B", maxInterval.getProducer());
+        AwardInterval maxInterval = result.getMax().get(0);
+        assertEquals("Producer B", maxInterval.getName());
         assertEquals(10, maxInterval.getInterval());
         
-        verify(movieRepository, times(1)).findByWinnerTrue();
+        verify(movieRepository, times(1)).findWinners();
     }
 
     @Test
@@ -154,23 +164,23 @@ class MovieServiceTest {
         Movie movie3 = createMovie(2000, "Producer Y", true);
         
         winnerMovies.addAll(Arrays.asList(movie1, movie2, movie3));
-        when(movieRepository.findByWinnerTrue()).thenReturn(winnerMovies);
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
 
-        ProducerAwardsIntervalDTO result = movieService.getProducersWithMinMaxAwardsInterval();
+        AwardIntervals result = movieService.getProducersWithMinMaxAwardsInterval();
 
         assertNotNull(result);
         assertEquals(1, result.getMin().size());
         assertEquals(1, result.getMax().size());
         
-        ProducerIntervalDTO minInterval = result.getMin().get(0);
-        assertEquals("Producer X", minInterval.getProducer());
+        AwardInterval minInterval = result.getMin().get(0);
+        assertEquals("Producer X", minInterval.getName());
         assertEquals(2, minInterval.getInterval());
         
-        ProducerIntervalDTO maxInterval = result.getMax().get(0);
-        assertEquals("Producer Y", maxInterval.getProducer());
+        AwardInterval maxInterval = result.getMax().get(0);
+        assertEquals("Producer Y", maxInterval.getName());
         assertEquals(10, maxInterval.getInterval());
         
-        verify(movieRepository, times(1)).findByWinnerTrue();
+        verify(movieRepository, times(1)).findWinners();
     }
 
     @Test
@@ -180,23 +190,23 @@ class MovieServiceTest {
         Movie movie3 = createMovie(2005, "Producer N", true);
         
         winnerMovies.addAll(Arrays.asList(movie1, movie2, movie3));
-        when(movieRepository.findByWinnerTrue()).thenReturn(winnerMovies);
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
 
-        ProducerAwardsIntervalDTO result = movieService.getProducersWithMinMaxAwardsInterval();
+        AwardIntervals result = movieService.getProducersWithMinMaxAwardsInterval();
 
         assertNotNull(result);
         assertEquals(1, result.getMin().size());
         assertEquals(1, result.getMax().size());
         
-        ProducerIntervalDTO minInterval = result.getMin().get(0);
-        assertEquals("Producer M", minInterval.getProducer());
+        AwardInterval minInterval = result.getMin().get(0);
+        assertEquals("Producer M", minInterval.getName());
         assertEquals(3, minInterval.getInterval());
         
-        ProducerIntervalDTO maxInterval = result.getMax().get(0);
-        assertEquals("Producer N", maxInterval.getProducer());
+        AwardInterval maxInterval = result.getMax().get(0);
+        assertEquals("Producer N", maxInterval.getName());
         assertEquals(15, maxInterval.getInterval());
         
-        verify(movieRepository, times(1)).findByWinnerTrue();
+        verify(movieRepository, times(1)).findWinners();
     }
 
     @Test
@@ -207,9 +217,9 @@ class MovieServiceTest {
         Movie movie4 = createMovie(2005, "Producer Beta", true);
         
         winnerMovies.addAll(Arrays.asList(movie1, movie2, movie3, movie4));
-        when(movieRepository.findByWinnerTrue()).thenReturn(winnerMovies);
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
 
-        ProducerAwardsIntervalDTO result = movieService.getProducersWithMinMaxAwardsInterval();
+        AwardIntervals result = movieService.getProducersWithMinMaxAwardsInterval();
 
         assertNotNull(result);
         
@@ -219,7 +229,7 @@ class MovieServiceTest {
         result.getMin().forEach(interval -> assertEquals(5, interval.getInterval()));
         result.getMax().forEach(interval -> assertEquals(5, interval.getInterval()));
         
-        verify(movieRepository, times(1)).findByWinnerTrue();
+        verify(movieRepository, times(1)).findWinners();
     }
 
     @Test
@@ -228,14 +238,14 @@ class MovieServiceTest {
         Movie movie2 = createMovie(1995, null, true);
         
         winnerMovies.addAll(Arrays.asList(movie1, movie2));
-        when(movieRepository.findByWinnerTrue()).thenReturn(winnerMovies);
-        ProducerAwardsIntervalDTO result = movieService.getProducersWithMinMaxAwardsInterval();
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
+        AwardIntervals result = movieService.getProducersWithMinMaxAwardsInterval();
 
         assertNotNull(result);
         assertTrue(result.getMin().isEmpty());
         assertTrue(result.getMax().isEmpty());
         
-        verify(movieRepository, times(1)).findByWinnerTrue();
+        verify(movieRepository, times(1)).findWinners();
     }
 
     @Test
@@ -246,24 +256,24 @@ class MovieServiceTest {
         Movie movie4 = createMovie(2010, "Producer C", true);
         
         winnerMovies.addAll(Arrays.asList(movie1, movie2, movie3, movie4));
-        when(movieRepository.findByWinnerTrue()).thenReturn(winnerMovies);
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
 
-        ProducerAwardsIntervalDTO result = movieService.getProducersWithMinMaxAwardsInterval();
+        AwardIntervals result = movieService.getProducersWithMinMaxAwardsInterval();
 
         assertNotNull(result);
         
         assertEquals(1, result.getMin().size());
         assertEquals(1, result.getMax().size());
         
-        ProducerIntervalDTO minInterval = result.getMin().get(0);
-        assertEquals("Producer A", minInterval.getProducer());
+        AwardInterval minInterval = result.getMin().get(0);
+        assertEquals("Producer A", minInterval.getName());
         assertEquals(1, minInterval.getInterval());
         
-        ProducerIntervalDTO maxInterval = result.getMax().get(0);
-        assertEquals("Producer C", maxInterval.getProducer());
+        AwardInterval maxInterval = result.getMax().get(0);
+        assertEquals("Producer C", maxInterval.getName());
         assertEquals(20, maxInterval.getInterval());
         
-        verify(movieRepository, times(1)).findByWinnerTrue();
+        verify(movieRepository, times(1)).findWinners();
     }
 
     @Test
@@ -273,9 +283,9 @@ class MovieServiceTest {
         Movie movie3 = createMovie(1995, "Producer Z", true);
         
         winnerMovies.addAll(Arrays.asList(movie1, movie2, movie3));
-        when(movieRepository.findByWinnerTrue()).thenReturn(winnerMovies);
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
 
-        ProducerAwardsIntervalDTO result = movieService.getProducersWithMinMaxAwardsInterval();
+        AwardIntervals result = movieService.getProducersWithMinMaxAwardsInterval();
 
         assertNotNull(result);
         
@@ -283,11 +293,11 @@ class MovieServiceTest {
         assertEquals(2, result.getMax().size());
         
         result.getMin().forEach(interval -> {
-            assertEquals("Producer Z", interval.getProducer());
+            assertEquals("Producer Z", interval.getName());
             assertEquals(5, interval.getInterval());
         });
         
-        verify(movieRepository, times(1)).findByWinnerTrue();
+        verify(movieRepository, times(1)).findWinners();
     }
 
     @Test
@@ -297,23 +307,182 @@ class MovieServiceTest {
         Movie movie3 = createMovie(2001, "Producer V", true);
         
         winnerMovies.addAll(Arrays.asList(movie1, movie2, movie3));
-        when(movieRepository.findByWinnerTrue()).thenReturn(winnerMovies);
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
 
-        ProducerAwardsIntervalDTO result = movieService.getProducersWithMinMaxAwardsInterval();
+        AwardIntervals result = movieService.getProducersWithMinMaxAwardsInterval();
 
         assertNotNull(result);
         assertEquals(1, result.getMin().size());
         assertEquals(1, result.getMax().size());
         
-        ProducerIntervalDTO minInterval = result.getMin().get(0);
-        assertEquals("Producer W", minInterval.getProducer());
+        AwardInterval minInterval = result.getMin().get(0);
+        assertEquals("Producer W", minInterval.getName());
         assertEquals(3, minInterval.getInterval());
         
-        ProducerIntervalDTO maxInterval = result.getMax().get(0);
-        assertEquals("Producer V", maxInterval.getProducer());
+        AwardInterval maxInterval = result.getMax().get(0);
+        assertEquals("Producer V", maxInterval.getName());
         assertEquals(11, maxInterval.getInterval());
         
-        verify(movieRepository, times(1)).findByWinnerTrue();
+        verify(movieRepository, times(1)).findWinners();
+    }
+
+    @Test
+    void testLoadProducerWins_GroupsSortedYearsByProducer() {
+        winnerMovies.addAll(Arrays.asList(
+            createMovie(2000, "Producer Z and Producer Y", true),
+            createMovie(1990, "Producer Z", true)));
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
+
+        NameWins wins = movieService.loadProducerWins();
+
+        int producerZ = wins.getNames().find("Producer Z");
+        int producerY = wins.getNames().find("Producer Y");
+        assertEquals(2, wins.winCount(producerZ));
+        assertEquals(1990, wins.year(producerZ, 0));
+        assertEquals(2000, wins.year(producerZ, 1));
+        assertEquals(1, wins.winCount(producerY));
+        assertEquals(2000, wins.year(producerY, 0));
+    }
+
+    @Test
+    void testLoadWins_BuildsEveryDimensionInOneRead() {
+        winnerMovies.addAll(Arrays.asList(
+            new Movie(1990, "Movie A", "Studio A, Studio B", "Producer A", true),
+            new Movie(1995, "Movie B", "Studio A", "Producer A and Producer B", true)));
+        when(movieRepository.findWinners()).thenReturn(winners(winnerMovies));
+
+        Map<AwardDimension, NameWins> wins = movieService.loadWins(EnumSet.allOf(AwardDimension.class));
+
+        NameWins studios = wins.get(AwardDimension.STUDIOS);
+        NameWins producers = wins.get(AwardDimension.PRODUCERS);
+        assertArrayEquals(new int[]{1990, 1995}, studios.years(studios.getNames().find("Studio A")));
+        assertArrayEquals(new int[]{1990}, studios.years(studios.getNames().find("Studio B")));
+        assertArrayEquals(new int[]{1990, 1995}, producers.years(producers.getNames().find("Producer A")));
+        assertEquals("Studio A", movieService.computeMinMaxIntervals(studios).getMin().get(0).getName());
+        verify(movieRepository, times(1)).findWinners();
+    }
+
+    @Test
+    void testLoadWins_NoDimensionsSkipsQuery() {
+        assertTrue(movieService.loadWins(EnumSet.noneOf(AwardDimension.class)).isEmpty());
+        verify(movieRepository, never()).findWinners();
+    }
+
+    @Test
+    void testComputeMinMaxIntervals_SinglePassKeepsAllTiesInOrder() {
+        NameWins wins = new NameWins();
+        wins.add("Producer A", 1990);
+        wins.add("Producer A", 1995);
+        wins.add("Producer A", 1996);
+        wins.add("Producer B", 2000);
+        wins.add("Producer B", 2001);
+        wins.add("Producer B", 2006);
+
+        AwardIntervals result = movieService.computeMinMaxIntervals(wins);
+
+        assertEquals(2, result.getMin().size());
+        assertEquals("Producer A", result.getMin().get(0).getName());
+        assertEquals(1995, result.getMin().get(0).getPreviousWin());
+        assertEquals("Producer B", result.getMin().get(1).getName());
+        assertEquals(2000, result.getMin().get(1).getPreviousWin());
+        assertEquals(2, result.getMax().size());
+        assertEquals(5, result.getMax().get(0).getInterval());
+        assertEquals(1990, result.getMax().get(0).getPreviousWin());
+        assertEquals(2001, result.getMax().get(1).getPreviousWin());
+    }
+
+    @Test
+    void testComputeMinMaxIntervals_MatchesAllIntervalsOnRandomInput() {
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            NameWins wins = new NameWins();
+            int producers = 1 + random.nextInt(20);
+            for (int i = random.nextInt(80); i > 0; i--) {
+                wins.add("Producer " + random.nextInt(producers), 1950 + random.nextInt(70));
+            }
+
+            List<AwardInterval> all = new ArrayList<>();
+            for (int producer = 0; producer < wins.nameCount(); producer++) {
+                int[] years = wins.years(producer);
+                for (int i = 1; i < years.length; i++) {
+                    all.add(new AwardInterval(wins.getNames().nameOf(producer),
+                        years[i] - years[i - 1], years[i - 1], years[i]));
+                }
+            }
+            all.sort(Comparator.comparing(AwardInterval::getName).thenComparing(AwardInterval::getPreviousWin));
+            int min = all.stream().mapToInt(AwardInterval::getInterval).min().orElse(0);
+            int max = all.stream().mapToInt(AwardInterval::getInterval).max().orElse(0);
+
+            AwardIntervals result = movieService.computeMinMaxIntervals(wins);
+
+            assertEquals(describe(all, min), describe(result.getMin(), min));
+            assertEquals(describe(all, max), describe(result.getMax(), max));
+        }
+    }
+
+    @Test
+    void testComputeMinMaxIntervalsInDatabase_SplitsRowsIntoMinAndMax() {
+        when(movieProducerRepository.findMinMaxIntervals()).thenReturn(Arrays.asList(
+            intervalRow("Producer A", 1, 1990, 1991),
+            intervalRow("Producer B", 1, 2000, 2001),
+            intervalRow("Producer C", 13, 2002, 2015)));
+
+        AwardIntervals result = movieService.computeMinMaxIntervalsInDatabase();
+
+        assertEquals(2, result.getMin().size());
+        assertEquals("Producer B", result.getMin().get(1).getName());
+        assertEquals(1, result.getMax().size());
+        assertEquals("Producer C", result.getMax().get(0).getName());
+        assertEquals(2015, result.getMax().get(0).getFollowingWin());
+        verify(movieRepository, never()).findWinners();
+    }
+
+    @Test
+    void testComputeMinMaxIntervalsInDatabase_SingleIntervalIsMinAndMax() {
+        when(movieProducerRepository.findMinMaxIntervals()).thenReturn(Arrays.asList(
+            intervalRow("Producer A", 5, 1990, 1995)));
+
+        AwardIntervals result = movieService.computeMinMaxIntervalsInDatabase();
+
+        assertEquals(1, result.getMin().size());
+        assertEquals(1, result.getMax().size());
+    }
+
+    @Test
+    void testComputeMinMaxIntervalsInDatabase_WithoutIntervals() {
+        when(movieProducerRepository.findMinMaxIntervals()).thenReturn(new ArrayList<>());
+
+        AwardIntervals result = movieService.computeMinMaxIntervalsInDatabase();
+
+        assertTrue(result.getMin().isEmpty());
+        assertTrue(result.getMax().isEmpty());
+    }
+
+    private static ProducerIntervalProjection intervalRow(String producer, int gap, int previousWin, int followingWin) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("producer", producer);
+        row.put("gap", gap);
+        row.put("previousWin", previousWin);
+        row.put("followingWin", followingWin);
+        return new SpelAwareProxyProjectionFactory().createProjection(ProducerIntervalProjection.class, row);
+    }
+
+    private static List<String> describe(List<AwardInterval> intervals, int interval) {
+        List<String> described = new ArrayList<>();
+        for (AwardInterval dto : intervals) {
+            if (dto.getInterval() == interval) {
+                described.add(dto.getName() + ":" + dto.getPreviousWin() + "-" + dto.getFollowingWin());
+            }
+        }
+        return described;
+    }
+
+    private static List<WinnerProjection> winners(List<Movie> movies) {
+        List<WinnerProjection> winners = new ArrayList<>();
+        for (Movie movie : movies) {
+            winners.add(new WinnerProjection(movie.getYear(), movie.getProducers(), movie.getStudios()));
+        }
+        return winners;
     }
 
     private Movie createMovie(Integer year, String producers, Boolean winner) {
@@ -0,0 +1,130 @@
+package org.example.service;
+
+import org.example.dto.MovieDTO;
+import org.example.repository.MovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovieSnapshotServiceTest {
+
+    @Mock
+    private CsvReaderService csvReaderService;
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private AwardIntervalIndex awardIntervalIndex;
+
+    @InjectMocks
+    private MovieSnapshotService movieSnapshotService;
+
+    @TempDir
+    Path tempDir;
+
+    private Path csv;
+    private Path snapshotFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        csv = tempDir.resolve("movies.csv");
+        Files.write(csv, "year;title;studios;producers;winner\n".getBytes(StandardCharsets.UTF_8));
+        snapshotFile = tempDir.resolve("movies.snapshot");
+        ReflectionTestUtils.setField(movieSnapshotService, "enabled", true);
+        ReflectionTestUtils.setField(movieSnapshotService, "snapshotPath", snapshotFile.toString());
+        ReflectionTestUtils.setField(movieSnapshotService, "batchSize", 2);
+    }
+
+    @Test
+    void testSave_WritesMoviesPageByPageAndOpenReadsThemBack() {
+        when(csvReaderService.getCsvFile()).thenReturn(Optional.of(csv));
+        when(movieRepository.findPageAfterId(0L, PageRequest.of(0, 2))).thenReturn(Arrays.asList(
+            new MovieDTO(1L, 1990, "Movie A", "Studio", "Producer A", true),
+            new MovieDTO(2L, 1991, "Movie B", "Studio", "Producer B", false)));
+        when(movieRepository.findPageAfterId(2L, PageRequest.of(0, 2))).thenReturn(Collections.singletonList(
+            new MovieDTO(5L, 2000, "Movie C", "Studio", "Producer A", true)));
+        givenIndex();
+
+        movieSnapshotService.save();
+
+        MovieSnapshot snapshot = movieSnapshotService.open().orElseThrow(AssertionError::new);
+        assertEquals(3, snapshot.movieCount());
+        assertEquals("Movie C", snapshot.movie(2).getTitle());
+        assertEquals("Producer A",
+            snapshot.intervals().get(AwardDimension.PRODUCERS).getMin().get(0).getName());
+        verify(movieRepository, times(2)).findPageAfterId(anyLong(), any());
+    }
+
+    @Test
+    void testOpen_IgnoresSnapshotAfterCsvChanges() throws Exception {
+        when(csvReaderService.getCsvFile()).thenReturn(Optional.of(csv));
+        when(movieRepository.findPageAfterId(anyLong(), any())).thenReturn(new ArrayList<>());
+        givenIndex();
+        movieSnapshotService.save();
+
+        Files.write(csv, "year;title;studios;producers;winner\n2000;Movie;Studio;Producer;yes\n"
+            .getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(movieSnapshotService.open().isPresent());
+    }
+
+    @Test
+    void testOpen_IgnoresCorruptedSnapshot() throws Exception {
+        when(csvReaderService.getCsvFile()).thenReturn(Optional.of(csv));
+        Files.write(snapshotFile, new byte[64]);
+
+        assertFalse(movieSnapshotService.open().isPresent());
+    }
+
+    @Test
+    void testSnapshots_DisabledByProperty() {
+        ReflectionTestUtils.setField(movieSnapshotService, "enabled", false);
+        when(csvReaderService.getCsvFile()).thenReturn(Optional.of(csv));
+
+        movieSnapshotService.save();
+
+        assertFalse(movieSnapshotService.open().isPresent());
+        assertFalse(Files.exists(snapshotFile));
+        verifyNoInteractions(movieRepository, awardIntervalIndex);
+    }
+
+    @Test
+    void testSave_SkipsClasspathCsv() {
+        when(csvReaderService.getCsvFile()).thenReturn(Optional.empty());
+
+        movieSnapshotService.save();
+
+        assertFalse(Files.exists(snapshotFile));
+    }
+
+    private void givenIndex() {
+        NameWins producers = new NameWins();
+        producers.add("Producer A", 1990);
+        producers.add("Producer A", 2000);
+        Map<AwardDimension, WinYears> wins = new EnumMap<>(AwardDimension.class);
+        wins.put(AwardDimension.PRODUCERS, producers);
+        wins.put(AwardDimension.STUDIOS, new NameWins());
+        when(awardIntervalIndex.wins()).thenReturn(wins);
+
+        when(awardIntervalIndex.getSnapshot(AwardDimension.PRODUCERS))
+            .thenReturn(AwardIntervalSnapshots.of("test", 1, producers));
+        when(awardIntervalIndex.getSnapshot(AwardDimension.STUDIOS))
+            .thenReturn(AwardIntervalSnapshots.of("test", 1, new NameWins()));
+    }
+}
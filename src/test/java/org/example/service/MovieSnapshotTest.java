@@ -0,0 +1,174 @@
+package org.example.service;
+
+import org.example.dto.MovieDTO;
+import org.example.model.Movie;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieSnapshotTest {
+
+    private static final long CHECKSUM = 0x1234_5678L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWriteAndOpen_RoundTripsMoviesWinsAndIntervals() throws IOException {
+        Path file = tempDir.resolve("movies.snapshot");
+        MovieSnapshot.Writer writer = new MovieSnapshot.Writer(CHECKSUM);
+        writer.add(new MovieDTO(1L, 1990, "Movie A", "Studio X", "Producer A and Producer B", true));
+        writer.add(new MovieDTO(2L, 1991, "Movie B", null, "Producer A", false));
+        writer.add(new MovieDTO(3L, 2000, "Ação É Ótima", "Studio X", "Producer A", true));
+        writer.write(file, wins(), intervals());
+
+        MovieSnapshot snapshot = MovieSnapshot.open(file, CHECKSUM).orElseThrow(AssertionError::new);
+
+        assertEquals(3, snapshot.movieCount());
+        assertMovie(snapshot.movie(0), 1990, "Movie A", "Studio X", "Producer A and Producer B", true);
+        assertMovie(snapshot.movie(1), 1991, "Movie B", null, "Producer A", false);
+        assertMovie(snapshot.movie(2), 2000, "Ação É Ótima", "Studio X", "Producer A", true);
+
+        NameWins producers = snapshot.wins().get(AwardDimension.PRODUCERS);
+        assertArrayEquals(new int[]{1990, 2000}, producers.years(producers.getNames().find("Producer A")));
+        assertArrayEquals(new int[]{1990}, producers.years(producers.getNames().find("Producer B")));
+        NameWins studios = snapshot.wins().get(AwardDimension.STUDIOS);
+        assertArrayEquals(new int[]{1990, 2000}, studios.years(studios.getNames().find("Studio X")));
+
+        AwardInterval min = snapshot.intervals().get(AwardDimension.PRODUCERS).getMin().get(0);
+        assertEquals("Producer A", min.getName());
+        assertEquals(10, min.getInterval());
+        assertEquals(1990, min.getPreviousWin());
+        assertEquals(2000, min.getFollowingWin());
+        assertEquals(1, snapshot.intervals().get(AwardDimension.STUDIOS).getMax().size());
+    }
+
+    @Test
+    void testWriteAndOpen_KeepsWinnerBitsAcrossWords() throws IOException {
+        Path file = tempDir.resolve("movies.snapshot");
+        MovieSnapshot.Writer writer = new MovieSnapshot.Writer(CHECKSUM);
+        for (int i = 0; i < 2000; i++) {
+            writer.add(new MovieDTO((long) i, i % 7 == 0 ? null : 1980 + i % 40, "Movie " + i,
+                "Studio " + i % 3, "Producer " + i % 5, i % 3 == 0));
+        }
+        writer.write(file, wins(), intervals());
+
+        MovieSnapshot snapshot = MovieSnapshot.open(file, CHECKSUM).orElseThrow(AssertionError::new);
+
+        assertEquals(2000, snapshot.movieCount());
+        for (int i = 0; i < 2000; i++) {
+            Movie movie = snapshot.movie(i);
+            assertEquals(i % 3 == 0, movie.getWinner(), "winner " + i);
+            assertEquals(i % 7 == 0 ? null : 1980 + i % 40, movie.getYear(), "year " + i);
+            assertEquals("Producer " + i % 5, movie.getProducers());
+        }
+    }
+
+    @Test
+    void testWriteAndOpen_SavesWinsFromIncrementalTracker() throws IOException {
+        Path file = tempDir.resolve("movies.snapshot");
+        IntervalTracker producers = new IntervalTracker(wins().get(AwardDimension.PRODUCERS));
+        producers.addWin("Producer C", 1995);
+        producers.addWin("Producer C", 1997);
+        producers.removeWin("Producer B", 1990);
+        Map<AwardDimension, WinYears> wins = new EnumMap<>(AwardDimension.class);
+        wins.put(AwardDimension.PRODUCERS, producers);
+        wins.put(AwardDimension.STUDIOS, wins().get(AwardDimension.STUDIOS));
+        new MovieSnapshot.Writer(CHECKSUM).write(file, wins, intervals());
+
+        NameWins restored = MovieSnapshot.open(file, CHECKSUM).orElseThrow(AssertionError::new)
+            .wins().get(AwardDimension.PRODUCERS);
+
+        assertEquals(3, restored.getNames().size());
+        assertArrayEquals(new int[]{1990, 2000}, restored.years(restored.getNames().find("Producer A")));
+        assertArrayEquals(new int[0], restored.years(restored.getNames().find("Producer B")));
+        assertArrayEquals(new int[]{1995, 1997}, restored.years(restored.getNames().find("Producer C")));
+    }
+
+    @Test
+    void testOpen_IgnoresSnapshotOfAnotherCsv() throws IOException {
+        Path file = tempDir.resolve("movies.snapshot");
+        new MovieSnapshot.Writer(CHECKSUM).write(file, wins(), intervals());
+
+        assertFalse(MovieSnapshot.open(file, CHECKSUM + 1).isPresent());
+    }
+
+    @Test
+    void testOpen_ReturnsEmptyWhenFileIsMissing() throws IOException {
+        assertFalse(MovieSnapshot.open(tempDir.resolve("missing.snapshot"), CHECKSUM).isPresent());
+    }
+
+    @Test
+    void testOpen_RejectsTruncatedFile() throws IOException {
+        Path file = tempDir.resolve("movies.snapshot");
+        MovieSnapshot.Writer writer = new MovieSnapshot.Writer(CHECKSUM);
+        writer.add(new MovieDTO(1L, 1990, "Movie A", "Studio X", "Producer A", true));
+        writer.write(file, wins(), intervals());
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 12));
+
+        assertThrows(IOException.class, () -> MovieSnapshot.open(file, CHECKSUM));
+    }
+
+    @Test
+    void testOpen_RejectsUnknownFormat() throws IOException {
+        Path file = tempDir.resolve("movies.snapshot");
+        Files.write(file, new byte[64]);
+
+        assertThrows(IOException.class, () -> MovieSnapshot.open(file, CHECKSUM));
+    }
+
+    @Test
+    void testWrite_ReplacesPreviousSnapshot() throws IOException {
+        Path file = tempDir.resolve("nested").resolve("movies.snapshot");
+        new MovieSnapshot.Writer(CHECKSUM).write(file, wins(), intervals());
+        MovieSnapshot.Writer writer = new MovieSnapshot.Writer(CHECKSUM + 1);
+        writer.add(new MovieDTO(1L, 1990, "Movie A", "Studio X", "Producer A", true));
+        writer.write(file, wins(), intervals());
+
+        assertFalse(MovieSnapshot.open(file, CHECKSUM).isPresent());
+        assertEquals(1, MovieSnapshot.open(file, CHECKSUM + 1).orElseThrow(AssertionError::new).movieCount());
+        assertFalse(Files.exists(file.resolveSibling("movies.snapshot.tmp")));
+    }
+
+    private static void assertMovie(Movie movie, Integer year, String title, String studios, String producers,
+                                    boolean winner) {
+        assertNull(movie.getId());
+        assertEquals(year, movie.getYear());
+        assertEquals(title, movie.getTitle());
+        assertEquals(studios, movie.getStudios());
+        assertEquals(producers, movie.getProducers());
+        assertEquals(winner, movie.getWinner());
+    }
+
+    private static Map<AwardDimension, NameWins> wins() {
+        NameWins producers = new NameWins();
+        producers.add("Producer A", 2000);
+        producers.add("Producer B", 1990);
+        producers.add("Producer A", 1990);
+        NameWins studios = new NameWins();
+        studios.add("Studio X", 1990);
+        studios.add("Studio X", 2000);
+        Map<AwardDimension, NameWins> wins = new EnumMap<>(AwardDimension.class);
+        wins.put(AwardDimension.PRODUCERS, producers);
+        wins.put(AwardDimension.STUDIOS, studios);
+        return wins;
+    }
+
+    private static Map<AwardDimension, AwardIntervals> intervals() {
+        Map<AwardDimension, AwardIntervals> intervals = new EnumMap<>(AwardDimension.class);
+        intervals.put(AwardDimension.PRODUCERS, new AwardIntervals(
+            Collections.singletonList(new AwardInterval("Producer A", 10, 1990, 2000)),
+            Collections.singletonList(new AwardInterval("Producer A", 10, 1990, 2000))));
+        intervals.put(AwardDimension.STUDIOS, new AwardIntervals(
+            Collections.singletonList(new AwardInterval("Studio X", 10, 1990, 2000)),
+            Collections.singletonList(new AwardInterval("Studio X", 10, 1990, 2000))));
+        return intervals;
+    }
+}
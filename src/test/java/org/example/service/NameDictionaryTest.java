@@ -0,0 +1,57 @@
+package org.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProducerDictionaryTest {
+
+    @Test
+    void testIdOf_AssignsSequentialIdsAndReusesThem() {
+        NameDictionary dictionary = new NameDictionary();
+
+        assertEquals(0, dictionary.idOf("Producer A"));
+        assertEquals(1, dictionary.idOf("Producer B"));
+        assertEquals(0, dictionary.idOf("Producer A"));
+        assertEquals(2, dictionary.size());
+        assertEquals("Producer B", dictionary.nameOf(1));
+    }
+
+    @Test
+    void testIdOf_SpanMatchesWholeName() {
+        NameDictionary dictionary = new NameDictionary();
+        int id = dictionary.idOf("Producer A");
+
+        String source = "Producer B and Producer A";
+        assertEquals(id, dictionary.idOf(source, 15, source.length()));
+        assertEquals(1, dictionary.idOf(source, 0, 10));
+        assertEquals("Producer B", dictionary.nameOf(1));
+    }
+
+    @Test
+    void testFind_UnknownNameIsMinusOne() {
+        NameDictionary dictionary = new NameDictionary();
+        dictionary.idOf("Producer A");
+
+        assertEquals(-1, dictionary.find("Producer"));
+        assertEquals(0, dictionary.find("Producer A"));
+    }
+
+    @Test
+    void testIdOf_GrowsBeyondInitialCapacity() {
+        NameDictionary dictionary = new NameDictionary();
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, dictionary.idOf("Producer " + i));
+        }
+
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, dictionary.find("Producer " + i));
+            assertEquals("Producer " + i, dictionary.nameOf(i));
+        }
+    }
+
+    @Test
+    void testNameOf_UnknownIdFails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> new NameDictionary().nameOf(0));
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameParserTest {
+
+    @Test
+    void testParse_SplitsAllSeparators() {
+        assertArrayEquals(new String[]{"Producer A", "Producer B", "Producer C", "Producer D"},
+            NameParser.parse("Producer A, Producer B and Producer C e Producer D"));
+    }
+
+    @Test
+    void testParse_TrimsAndDropsEmptyNames() {
+        assertArrayEquals(new String[]{"Producer A", "Producer B"},
+            NameParser.parse("  Producer A ,, and   Producer B  ,"));
+    }
+
+    @Test
+    void testParse_KeepsSeparatorsInsideWords() {
+        assertArrayEquals(new String[]{"Sandy Andersen", "Bruce Berman"},
+            NameParser.parse("Sandy Andersen and Bruce Berman"));
+    }
+
+    @Test
+    void testParse_NullOrBlankIsEmpty() {
+        assertEquals(0, NameParser.parse(null).length);
+        assertEquals(0, NameParser.parse("   ").length);
+    }
+
+    @Test
+    void testForEachName_EmitsSpansWithoutCreatingStrings() {
+        String producers = "Producer A and Producer B";
+        List<int[]> spans = new ArrayList<>();
+
+        int count = NameParser.forEachName(producers, (source, start, end) -> {
+            assertSame(producers, source);
+            spans.add(new int[]{start, end});
+        });
+
+        assertEquals(2, count);
+        assertArrayEquals(new int[]{0, 10}, spans.get(0));
+        assertArrayEquals(new int[]{15, 25}, spans.get(1));
+    }
+
+    @Test
+    void testParse_MatchesRegexImplementationOnRandomInput() {
+        Random random = new Random(7);
+        String[] pieces = {"a", "e", "n", "d", "x", " ", " ", ",", " and ", " e "};
+
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder value = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                value.append(pieces[random.nextInt(pieces.length)]);
+            }
+            String input = value.toString();
+            assertArrayEquals(regexParse(input), NameParser.parse(input), () -> "entrada: [" + input + "]");
+        }
+    }
+
+    private static String[] regexParse(String producersString) {
+        if (producersString == null || producersString.trim().isEmpty()) {
+            return new String[0];
+        }
+        String normalized = producersString
+            .replaceAll(" and ", ",")
+            .replaceAll(" e ", ",");
+        return Arrays.stream(normalized.split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .toArray(String[]::new);
+    }
+}
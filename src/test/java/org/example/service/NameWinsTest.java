@@ -0,0 +1,66 @@
+package org.example.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProducerWinsTest {
+
+    @Test
+    void testYears_GroupedByProducerInAscendingOrder() {
+        NameWins wins = new NameWins();
+        wins.add("Producer A", 2000);
+        wins.add("Producer B", 1995);
+        wins.add("Producer A", 1990);
+        wins.add("Producer A", 1995);
+
+        int producerA = wins.getNames().find("Producer A");
+        int producerB = wins.getNames().find("Producer B");
+        assertEquals(2, wins.nameCount());
+        assertArrayEquals(new int[]{1990, 1995, 2000}, wins.years(producerA));
+        assertEquals(3, wins.winCount(producerA));
+        assertEquals(1995, wins.year(producerA, 1));
+        assertArrayEquals(new int[]{1995}, wins.years(producerB));
+    }
+
+    @Test
+    void testAdd_AfterReadRebuildsIndex() {
+        NameWins wins = new NameWins();
+        wins.add("Producer A", 2000);
+        assertEquals(1, wins.winCount(0));
+
+        wins.add("Producer A", 1990);
+
+        assertArrayEquals(new int[]{1990, 2000}, wins.years(0));
+    }
+
+    @Test
+    void testIdsWithoutWinsAreEmpty() {
+        NameDictionary producers = new NameDictionary();
+        producers.idOf("Producer A");
+        NameWins wins = new NameWins(producers);
+        wins.add(producers.idOf("Producer B"), 2000);
+
+        assertEquals(0, wins.winCount(0));
+        assertEquals(0, wins.winCount(5));
+        assertEquals(0, wins.years(5).length);
+        assertEquals(1, wins.winCount(1));
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() {
+        NameWins wins = new NameWins();
+        for (int year = 3000; year > 1000; year--) {
+            wins.add(year % 7, year);
+        }
+
+        for (int producer = 0; producer < 7; producer++) {
+            int[] years = wins.years(producer);
+            for (int i = 1; i < years.length; i++) {
+                assertTrue(years[i - 1] < years[i]);
+            }
+        }
+        assertEquals(2000, wins.winCount(0) + wins.winCount(1) + wins.winCount(2) + wins.winCount(3)
+            + wins.winCount(4) + wins.winCount(5) + wins.winCount(6));
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.service;
+
+import org.example.dto.IngestResultDTO;
+import org.example.model.Movie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelCsvIngestServiceTest {
+
+    private static final String HEADER = "year;title;studios;producers;winner\n";
+
+    @TempDir
+    Path tempDir;
+
+    private final List<Movie> written = Collections.synchronizedList(new ArrayList<>());
+
+    private ParallelCsvIngestService ingestService;
+
+    @BeforeEach
+    void setUp() {
+        ingestService = createService(new MovieBatchWriter(null) {
+            @Override
+            public void write(List<Movie> movies) {
+                written.addAll(movies);
+            }
+        });
+    }
+
+    @Test
+    void testIngest_WritesEveryRowAcrossChunks() throws IOException {
+        Path file = writeCsv(500, Collections.emptySet());
+
+        IngestResultDTO result = ingestService.ingest(file);
+
+        assertEquals(500, result.getRows());
+        assertEquals(0, result.getRejected());
+        assertEquals(500, written.size());
+        Set<String> titles = new HashSet<>();
+        written.forEach(movie -> titles.add(movie.getTitle()));
+        assertEquals(500, titles.size());
+        assertFalse(titles.contains("title"), "O cabeçalho não deve ser gravado como filme");
+    }
+
+    @Test
+    void testIngest_ReportsRejectedLinesInFileOrder() throws IOException {
+        Path file = writeCsv(300, new HashSet<>(Arrays.asList(250, 10, 120)));
+
+        IngestResultDTO result = ingestService.ingest(file);
+
+        assertEquals(297, result.getRows());
+        assertEquals(3, result.getRejected());
+        assertEquals(12L, result.getRejectedLines().get(0).getLine());
+        assertEquals(122L, result.getRejectedLines().get(1).getLine());
+        assertEquals(252L, result.getRejectedLines().get(2).getLine());
+    }
+
+    @Test
+    void testIngest_ReportsThroughput() throws IOException {
+        IngestResultDTO result = ingestService.ingest(writeCsv(50, Collections.emptySet()));
+
+        assertNotNull(result.getElapsedMillis());
+        assertTrue(result.getRowsPerSecond() > 0);
+    }
+
+    @Test
+    void testIngest_PropagatesWriterFailure() throws IOException {
+        ParallelCsvIngestService failing = createService(new MovieBatchWriter(null) {
+            @Override
+            public void write(List<Movie> movies) {
+                throw new IllegalStateException("banco indisponível");
+            }
+        });
+        Path file = writeCsv(200, Collections.emptySet());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> failing.ingest(file));
+
+        assertTrue(exception.getMessage().contains("banco indisponível"));
+    }
+
+    @Test
+    void testIngestStream_WritesRowsAndReportsRejectedLines() throws IOException {
+        Path file = writeCsv(300, new HashSet<>(Arrays.asList(10, 120)));
+
+        IngestResultDTO result;
+        try (InputStream in = Files.newInputStream(file)) {
+            result = ingestService.ingest(in);
+        }
+
+        assertEquals(298, result.getRows());
+        assertEquals(298, written.size());
+        assertEquals(2, result.getRejected());
+        assertEquals(12L, result.getRejectedLines().get(0).getLine());
+        assertEquals(122L, result.getRejectedLines().get(1).getLine());
+    }
+
+    @Test
+    void testIngestStream_StopsReadingWhenWriterFails() throws IOException {
+        ParallelCsvIngestService failing = createService(new MovieBatchWriter(null) {
+            @Override
+            public void write(List<Movie> movies) {
+                throw new IllegalStateException("banco indisponível");
+            }
+        });
+        Path file = writeCsv(2000, Collections.emptySet());
+
+        try (InputStream in = Files.newInputStream(file)) {
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> failing.ingest(in));
+            assertTrue(exception.getMessage().contains("banco indisponível"));
+        }
+    }
+
+    private ParallelCsvIngestService createService(MovieBatchWriter writer) {
+        ParallelCsvIngestService service = new ParallelCsvIngestService(writer);
+        ReflectionTestUtils.setField(service, "batchSize", 7);
+        ReflectionTestUtils.setField(service, "parserThreads", 3);
+        ReflectionTestUtils.setField(service, "writerThreads", 2);
+        ReflectionTestUtils.setField(service, "chunkSize", 256);
+        return service;
+    }
+
+    /**
+     * Linha i (0-based) do corpo fica na linha i + 2 do arquivo; as posições em {@code invalid} recebem ano inválido.
+     */
+    private Path writeCsv(int rows, Set<Integer> invalid) throws IOException {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < rows; i++) {
+            csv.append(invalid.contains(i) ? "x" : String.valueOf(1980 + i % 40))
+                .append(";Movie ").append(i).append(";Studio;Producer ").append(i % 17).append(";yes\n");
+        }
+        Path file = tempDir.resolve("movies.csv");
+        Files.write(file, csv.toString().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.service;
+
+import org.example.model.Movie;
+import org.example.model.MovieProducer;
+import org.example.repository.MovieProducerRepository;
+import org.example.repository.MovieRepository;
+import org.example.repository.ProducerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.*;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ProducerCatalogService.class)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class ProducerCatalogServiceTest {
+
+    @Autowired
+    private ProducerCatalogService producerCatalogService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ProducerRepository producerRepository;
+
+    @Autowired
+    private MovieProducerRepository movieProducerRepository;
+
+    @Test
+    void testLinkProducers_CreatesEachProducerOnce() {
+        List<Movie> movies = movieRepository.saveAll(Arrays.asList(
+            new Movie(1990, "Movie 1", "Studio", "Producer A and Producer B", true),
+            new Movie(1995, "Movie 2", "Studio", "Producer A, Producer C", false)
+        ));
+
+        producerCatalogService.linkProducers(movies);
+
+        assertEquals(3, producerRepository.findByNameIn(Arrays.asList("Producer A", "Producer B", "Producer C")).size());
+        assertEquals(4, movieProducerRepository.count());
+        assertEquals(Arrays.asList(1990), winningYears("Producer B"));
+    }
+
+    @Test
+    void testLinkProducers_CopiesYearAndWinnerToLink() {
+        List<Movie> movies = movieRepository.saveAll(Arrays.asList(
+            new Movie(2001, "Movie", "Studio", "Producer A", true)
+        ));
+
+        producerCatalogService.linkProducers(movies);
+
+        MovieProducer link = movieProducerRepository.findAll().get(0);
+        assertEquals(2001, link.getMovieYear());
+        assertTrue(link.getWinner());
+        assertEquals("Producer A", link.getProducer().getName());
+    }
+
+    @Test
+    void testLinkProducers_ReusesExistingProducers() {
+        producerCatalogService.linkProducers(movieRepository.saveAll(Arrays.asList(
+            new Movie(1990, "Movie 1", "Studio", "Producer A", true))));
+        producerCatalogService.linkProducers(movieRepository.saveAll(Arrays.asList(
+            new Movie(1999, "Movie 2", "Studio", "Producer A", true))));
+
+        assertEquals(1, producerRepository.findByNameIn(Arrays.asList("Producer A")).size());
+        assertEquals(Arrays.asList(1990, 1999), winningYears("Producer A"));
+    }
+
+    @Test
+    void testLinkProducers_IgnoresDuplicatedNamesInSameMovie() {
+        producerCatalogService.linkProducers(movieRepository.saveAll(Arrays.asList(
+            new Movie(1990, "Movie", "Studio", "Producer A and Producer A", true))));
+
+        assertEquals(1, movieProducerRepository.count());
+    }
+
+    @Test
+    void testLinkProducers_KeepsWinnerFlagOfEachMovie() {
+        producerCatalogService.linkProducers(movieRepository.saveAll(Arrays.asList(
+            new Movie(2000, "Movie 1", "Studio", "Producer A", true),
+            new Movie(1995, "Movie 2", "Studio", "Producer A", false),
+            new Movie(1990, "Movie 3", "Studio", "Producer A", true)
+        )));
+
+        assertEquals(Arrays.asList(1990, 2000), winningYears("Producer A"));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testLinkProducers_ConcurrentBatchesCreateEachProducerOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                List<Movie> movies = movieRepository.saveAll(Arrays.asList(
+                    new Movie(1990 + i, "Movie " + i, "Studio", "Concurrent A, Concurrent B and Concurrent C", true)));
+                futures.add(executor.submit(() -> producerCatalogService.linkProducers(movies)));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            assertEquals(8, winningYears("Concurrent A").size());
+            assertEquals(3, producerRepository.findAll().stream()
+                .filter(producer -> producer.getName().startsWith("Concurrent")).count());
+        } finally {
+            executor.shutdownNow();
+            movieProducerRepository.deleteAll();
+            movieRepository.deleteAll();
+            producerRepository.deleteAll();
+        }
+    }
+
+    private List<Integer> winningYears(String producer) {
+        Long id = producerRepository.findByNameIn(Collections.singletonList(producer)).get(0).getId();
+        return movieProducerRepository.findAll().stream()
+            .filter(link -> link.getProducer().getId().equals(id) && link.getWinner())
+            .map(MovieProducer::getMovieYear)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+}